@@ -358,12 +358,14 @@ public class WorkflowDef extends BaseDef {
     }
 
     public WorkflowTask getTaskByRefName(String taskReferenceName) {
-        return collectTasks().stream()
-                .filter(
-                        workflowTask ->
-                                workflowTask.getTaskReferenceName().equals(taskReferenceName))
-                .findFirst()
-                .orElse(null);
+        // walks the tasks in the order of collectTasks(), without collecting them
+        for (WorkflowTask workflowTask : tasks) {
+            WorkflowTask task = workflowTask.get(taskReferenceName);
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
     }
 
     public List<WorkflowTask> collectTasks() {
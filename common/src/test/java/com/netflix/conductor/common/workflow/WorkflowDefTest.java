@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.common.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.netflix.conductor.common.metadata.tasks.TaskType;
+import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class WorkflowDefTest {
+
+    @Test
+    public void testGetTaskByRefName() {
+        WorkflowTask task1 = createTask("task1");
+        WorkflowTask task2 = createTask("task2");
+        WorkflowTask decision = createTask("decision");
+        decision.setType(TaskType.DECISION.name());
+        decision.setDecisionCases(Map.of("case", List.of(task2)));
+
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setTasks(new ArrayList<>(List.of(task1, decision)));
+
+        assertSame(task1, workflowDef.getTaskByRefName("task1"));
+        assertSame(task2, workflowDef.getTaskByRefName("task2"));
+        assertSame(decision, workflowDef.getTaskByRefName("decision"));
+        assertNull(workflowDef.getTaskByRefName("task3"));
+    }
+
+    @Test
+    public void testGetTaskByRefNameAfterTasksChanged() {
+        WorkflowTask task1 = createTask("task1");
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setTasks(new ArrayList<>(List.of(task1)));
+        assertSame(task1, workflowDef.getTaskByRefName("task1"));
+
+        WorkflowTask task2 = createTask("task2");
+        workflowDef.getTasks().add(task2);
+        assertSame(task2, workflowDef.getTaskByRefName("task2"));
+
+        task1.setTaskReferenceName("renamed");
+        assertNull(workflowDef.getTaskByRefName("task1"));
+        assertSame(task1, workflowDef.getTaskByRefName("renamed"));
+
+        // replaced in place, with the same number of tasks
+        WorkflowTask decision = createTask("decision");
+        decision.setType(TaskType.DECISION.name());
+        decision.setDecisionCases(Map.of("case", new ArrayList<>()));
+        workflowDef.getTasks().set(0, decision);
+        assertNull(workflowDef.getTaskByRefName("renamed"));
+        assertSame(decision, workflowDef.getTaskByRefName("decision"));
+
+        // added below a task
+        WorkflowTask child = createTask("child");
+        decision.getDecisionCases().get("case").add(child);
+        assertSame(child, workflowDef.getTaskByRefName("child"));
+        decision.getDecisionCases().get("case").remove(child);
+        assertNull(workflowDef.getTaskByRefName("child"));
+
+        WorkflowTask task3 = createTask("task3");
+        workflowDef.setTasks(new ArrayList<>(List.of(task3)));
+        assertNull(workflowDef.getTaskByRefName("renamed"));
+        assertSame(task3, workflowDef.getTaskByRefName("task3"));
+    }
+
+    @Test
+    public void testGetTaskByRefNameDoesNotCollectTasks() {
+        WorkflowTask task1 = createTask("task1");
+        WorkflowDef workflowDef = spy(new WorkflowDef());
+        workflowDef.setTasks(new ArrayList<>(List.of(task1)));
+
+        assertSame(task1, workflowDef.getTaskByRefName("task1"));
+        // e.g. the reference name of an iteration or of a dynamically forked task
+        assertNull(workflowDef.getTaskByRefName("task1__2"));
+        verify(workflowDef, never()).collectTasks();
+    }
+
+    private WorkflowTask createTask(String taskReferenceName) {
+        WorkflowTask workflowTask = new WorkflowTask();
+        workflowTask.setName(taskReferenceName);
+        workflowTask.setTaskReferenceName(taskReferenceName);
+        workflowTask.setType(TaskType.SIMPLE.name());
+        return workflowTask;
+    }
+}
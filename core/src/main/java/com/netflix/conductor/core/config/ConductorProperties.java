@@ -51,6 +51,13 @@ public class ConductorProperties {
     /** The timeout (in milliseconds) for the polling of workflows to be swept. */
     private Duration sweeperWorkflowPollTimeout = Duration.ofMillis(2000);
 
+    /**
+     * The time after which a sweep still running is reported as stalled. It keeps its place among
+     * the sweeps in flight until it completes.
+     */
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration sweeperWorkflowSweepTimeout = Duration.ofSeconds(60);
+
     /** The number of threads to configure the threadpool in the event processor. */
     private int eventProcessorThreadCount = 2;
 
@@ -133,6 +140,13 @@ public class ConductorProperties {
      */
     private Duration systemTaskWorkerPollInterval = Duration.ofMillis(50);
 
+    /**
+     * The longest interval (in milliseconds) between polls of a system task queue that keeps coming
+     * back empty. Each empty poll doubles the queue's poll interval up to this value, which is also
+     * the longest a task can wait in a quiet queue before it is picked up.
+     */
+    private Duration systemTaskWorkerMaxPollInterval = Duration.ofMillis(200);
+
     /** The namespace for the system task workers to provide instance level isolation. */
     private String systemTaskWorkerExecutionNamespace = "";
 
@@ -243,6 +257,28 @@ public class ConductorProperties {
     /** Used to limit the size of task execution logs. */
     private int taskExecLogSizeLimit = 10;
 
+    /**
+     * The maximum size in MB of the payloads downloaded from the external payload storage that are
+     * kept in memory. The payloads are never changed once stored, so they can be reused until
+     * evicted. Set to 0 to download them every time.
+     */
+    @DataSizeUnit(DataUnit.MEGABYTES)
+    private DataSize externalPayloadCacheSize = DataSize.ofMegabytes(64L);
+
+    /**
+     * The number of external payloads of a workflow downloaded at the same time, by the thread that
+     * loads the workflow and helper threads. Set to 1 to download them one by one.
+     */
+    private int externalPayloadDownloadThreadCount = 4;
+
+    /**
+     * Run system tasks, workflow sweeps and event actions on virtual threads, one per unit of work.
+     * The system task worker, sweeper and event processor thread counts then limit how many of them
+     * run at the same time. Needs a Java 21+ runtime; on older JVMs, including the Java 17 runtime
+     * of the server images, the platform threads are used.
+     */
+    private boolean virtualThreadsEnabled = false;
+
     public String getStack() {
         return stack;
     }
@@ -291,6 +327,14 @@ public class ConductorProperties {
         this.sweeperWorkflowPollTimeout = sweeperWorkflowPollTimeout;
     }
 
+    public Duration getSweeperWorkflowSweepTimeout() {
+        return sweeperWorkflowSweepTimeout;
+    }
+
+    public void setSweeperWorkflowSweepTimeout(Duration sweeperWorkflowSweepTimeout) {
+        this.sweeperWorkflowSweepTimeout = sweeperWorkflowSweepTimeout;
+    }
+
     public int getEventProcessorThreadCount() {
         return eventProcessorThreadCount;
     }
@@ -412,6 +456,14 @@ public class ConductorProperties {
         this.systemTaskWorkerPollInterval = systemTaskWorkerPollInterval;
     }
 
+    public Duration getSystemTaskWorkerMaxPollInterval() {
+        return systemTaskWorkerMaxPollInterval;
+    }
+
+    public void setSystemTaskWorkerMaxPollInterval(Duration systemTaskWorkerMaxPollInterval) {
+        this.systemTaskWorkerMaxPollInterval = systemTaskWorkerMaxPollInterval;
+    }
+
     public String getSystemTaskWorkerExecutionNamespace() {
         return systemTaskWorkerExecutionNamespace;
     }
@@ -568,6 +620,30 @@ public class ConductorProperties {
         this.taskExecLogSizeLimit = taskExecLogSizeLimit;
     }
 
+    public DataSize getExternalPayloadCacheSize() {
+        return externalPayloadCacheSize;
+    }
+
+    public void setExternalPayloadCacheSize(DataSize externalPayloadCacheSize) {
+        this.externalPayloadCacheSize = externalPayloadCacheSize;
+    }
+
+    public int getExternalPayloadDownloadThreadCount() {
+        return externalPayloadDownloadThreadCount;
+    }
+
+    public void setExternalPayloadDownloadThreadCount(int externalPayloadDownloadThreadCount) {
+        this.externalPayloadDownloadThreadCount = externalPayloadDownloadThreadCount;
+    }
+
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
     /**
      * @return Returns all the configurations in a map.
      */
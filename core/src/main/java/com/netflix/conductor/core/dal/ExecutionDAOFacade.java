@@ -13,12 +13,14 @@
 package com.netflix.conductor.core.dal;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -80,6 +82,9 @@ public class ExecutionDAOFacade {
 
     private final ScheduledThreadPoolExecutor scheduledThreadPoolExecutor;
 
+    /** Nesting depth of the unit of work open on the calling thread. */
+    private final ThreadLocal<Integer> unitOfWorkDepth = ThreadLocal.withInitial(() -> 0);
+
     public ExecutionDAOFacade(
             ExecutionDAO executionDAO,
             QueueDAO queueDAO,
@@ -134,6 +139,56 @@ public class ExecutionDAOFacade {
         }
     }
 
+    /**
+     * Opens a unit of work on the calling thread: from now on, the execution data writes of the
+     * thread are collected by the {@link ExecutionDAO} and sent together when the outermost unit of
+     * work ends. Every call must be paired with {@link #endUnitOfWork()}.
+     */
+    public void startUnitOfWork() {
+        int depth = unitOfWorkDepth.get();
+        if (depth == 0) {
+            executionDAO.startBatch();
+        }
+        unitOfWorkDepth.set(depth + 1);
+    }
+
+    /**
+     * Sends the writes collected so far by the unit of work of the calling thread. Must be called
+     * before other nodes or workers are pointed at the written data, e.g. by a queue push.
+     */
+    public void flushUnitOfWork() {
+        if (unitOfWorkDepth.get() > 0) {
+            executionDAO.flushBatch();
+        }
+    }
+
+    /** Closes the unit of work opened by {@link #startUnitOfWork()}, which completed. */
+    public void endUnitOfWork() {
+        endUnitOfWork(true);
+    }
+
+    /**
+     * Closes the unit of work opened by {@link #startUnitOfWork()}. When the outermost unit of work
+     * did not complete, the writes collected since the last {@link #flushUnitOfWork() flush} are
+     * dropped: nothing else has seen them yet, and the failed work is evaluated again from the data
+     * last sent.
+     *
+     * @param completed false if the work failed
+     */
+    public void endUnitOfWork(boolean completed) {
+        int depth = unitOfWorkDepth.get() - 1;
+        if (depth > 0) {
+            unitOfWorkDepth.set(depth);
+            return;
+        }
+        unitOfWorkDepth.remove();
+        if (completed) {
+            executionDAO.endBatch();
+        } else {
+            executionDAO.discardBatch();
+        }
+    }
+
     public WorkflowModel getWorkflowModel(String workflowId, boolean includeTasks) {
         WorkflowModel workflowModel = getWorkflowModelFromDataStore(workflowId, includeTasks);
         populateWorkflowAndTaskPayloadData(workflowModel);
@@ -261,6 +316,7 @@ public class ExecutionDAOFacade {
     public String createWorkflow(WorkflowModel workflowModel) {
         externalizeWorkflowData(workflowModel);
         executionDAO.createWorkflow(workflowModel);
+        flushUnitOfWork();
         // Add to decider queue
         queueDAO.push(
                 DECIDER_QUEUE,
@@ -275,6 +331,46 @@ public class ExecutionDAOFacade {
         return workflowModel.getWorkflowId();
     }
 
+    /**
+     * Creates the given workflows in the data store within one unit of work, and pushes them to the
+     * decider queue with a single call. Unlike {@link #createWorkflow(WorkflowModel)}, the
+     * workflows are pushed without offset, so that their first evaluation is done by the sweeper.
+     *
+     * @param workflowModels the workflows to be created
+     */
+    public void createWorkflows(List<WorkflowModel> workflowModels) {
+        startUnitOfWork();
+        boolean created = false;
+        try {
+            for (WorkflowModel workflowModel : workflowModels) {
+                externalizeWorkflowData(workflowModel);
+                executionDAO.createWorkflow(workflowModel);
+            }
+            flushUnitOfWork();
+            created = true;
+        } finally {
+            endUnitOfWork(created);
+        }
+        List<Message> messages =
+                workflowModels.stream()
+                        .map(
+                                workflowModel ->
+                                        new Message(
+                                                workflowModel.getWorkflowId(),
+                                                null,
+                                                null,
+                                                workflowModel.getPriority()))
+                        .collect(Collectors.toList());
+        queueDAO.push(DECIDER_QUEUE, messages);
+        for (WorkflowModel workflowModel : workflowModels) {
+            if (properties.isAsyncIndexingEnabled()) {
+                indexDAO.asyncIndexWorkflow(new WorkflowSummary(workflowModel.toWorkflow()));
+            } else {
+                indexDAO.indexWorkflow(new WorkflowSummary(workflowModel.toWorkflow()));
+            }
+        }
+    }
+
     private void externalizeTaskData(TaskModel taskModel) {
         externalPayloadStorageUtils.verifyAndUpload(
                 taskModel, ExternalPayloadStorage.PayloadType.TASK_INPUT);
@@ -463,6 +559,16 @@ public class ExecutionDAOFacade {
         return taskModel;
     }
 
+    /**
+     * @param taskIds the ids of the tasks to load together
+     * @return the tasks found, with their externalized payloads populated
+     */
+    public List<TaskModel> getTaskModels(List<String> taskIds) {
+        List<TaskModel> taskModels = executionDAO.getTasks(taskIds);
+        taskModels.forEach(this::populateTaskData);
+        return taskModels;
+    }
+
     public Task getTask(String taskId) {
         TaskModel taskModel = getTaskFromDatastore(taskId);
         if (taskModel != null) {
@@ -544,6 +650,17 @@ public class ExecutionDAOFacade {
         executionDAO.removeTask(taskId);
     }
 
+    /**
+     * Removes the given task of a running workflow from the data store and from the index.
+     *
+     * @param workflow the workflow the task belongs to
+     * @param task the task to be removed
+     */
+    public void removeTask(WorkflowModel workflow, TaskModel task) {
+        executionDAO.removeTask(task.getTaskId());
+        indexDAO.asyncRemoveTask(workflow.getWorkflowId(), task.getTaskId());
+    }
+
     private void removeTaskIndex(WorkflowModel workflow, TaskModel task, boolean archiveTask)
             throws JsonProcessingException {
         if (archiveTask) {
@@ -704,42 +821,55 @@ public class ExecutionDAOFacade {
 
     /**
      * Populates the workflow input data and the tasks input/output data if stored in external
-     * payload storage.
+     * payload storage. The payloads are downloaded together.
      *
      * @param workflowModel the workflowModel for which the payload data needs to be populated from
      *     external storage (if applicable)
      */
     public void populateWorkflowAndTaskPayloadData(WorkflowModel workflowModel) {
+        List<String> paths = new ArrayList<>();
+        addIfNotBlank(paths, workflowModel.getExternalInputPayloadStoragePath());
+        addIfNotBlank(paths, workflowModel.getExternalOutputPayloadStoragePath());
+        for (TaskModel taskModel : workflowModel.getTasks()) {
+            addIfNotBlank(paths, taskModel.getExternalOutputPayloadStoragePath());
+            addIfNotBlank(paths, taskModel.getExternalInputPayloadStoragePath());
+        }
+        if (paths.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Object>> payloads =
+                externalPayloadStorageUtils.downloadPayloads(paths);
+
         if (StringUtils.isNotBlank(workflowModel.getExternalInputPayloadStoragePath())) {
-            Map<String, Object> workflowInputParams =
-                    externalPayloadStorageUtils.downloadPayload(
-                            workflowModel.getExternalInputPayloadStoragePath());
             Monitors.recordExternalPayloadStorageUsage(
                     workflowModel.getWorkflowName(),
                     ExternalPayloadStorage.Operation.READ.toString(),
                     ExternalPayloadStorage.PayloadType.WORKFLOW_INPUT.toString());
-            workflowModel.internalizeInput(workflowInputParams);
+            workflowModel.internalizeInput(
+                    payloads.get(workflowModel.getExternalInputPayloadStoragePath()));
         }
 
         if (StringUtils.isNotBlank(workflowModel.getExternalOutputPayloadStoragePath())) {
-            Map<String, Object> workflowOutputParams =
-                    externalPayloadStorageUtils.downloadPayload(
-                            workflowModel.getExternalOutputPayloadStoragePath());
             Monitors.recordExternalPayloadStorageUsage(
                     workflowModel.getWorkflowName(),
                     ExternalPayloadStorage.Operation.READ.toString(),
                     ExternalPayloadStorage.PayloadType.WORKFLOW_OUTPUT.toString());
-            workflowModel.internalizeOutput(workflowOutputParams);
+            workflowModel.internalizeOutput(
+                    payloads.get(workflowModel.getExternalOutputPayloadStoragePath()));
         }
 
-        workflowModel.getTasks().forEach(this::populateTaskData);
+        workflowModel.getTasks().forEach(taskModel -> populateTaskData(taskModel, payloads::get));
     }
 
     public void populateTaskData(TaskModel taskModel) {
+        populateTaskData(taskModel, externalPayloadStorageUtils::downloadPayload);
+    }
+
+    private void populateTaskData(
+            TaskModel taskModel, Function<String, Map<String, Object>> payloadByPath) {
         if (StringUtils.isNotBlank(taskModel.getExternalOutputPayloadStoragePath())) {
             Map<String, Object> outputData =
-                    externalPayloadStorageUtils.downloadPayload(
-                            taskModel.getExternalOutputPayloadStoragePath());
+                    payloadByPath.apply(taskModel.getExternalOutputPayloadStoragePath());
             taskModel.internalizeOutput(outputData);
             Monitors.recordExternalPayloadStorageUsage(
                     taskModel.getTaskDefName(),
@@ -749,8 +879,7 @@ public class ExecutionDAOFacade {
 
         if (StringUtils.isNotBlank(taskModel.getExternalInputPayloadStoragePath())) {
             Map<String, Object> inputData =
-                    externalPayloadStorageUtils.downloadPayload(
-                            taskModel.getExternalInputPayloadStoragePath());
+                    payloadByPath.apply(taskModel.getExternalInputPayloadStoragePath());
             taskModel.internalizeInput(inputData);
             Monitors.recordExternalPayloadStorageUsage(
                     taskModel.getTaskDefName(),
@@ -759,6 +888,12 @@ public class ExecutionDAOFacade {
         }
     }
 
+    private void addIfNotBlank(List<String> paths, String path) {
+        if (StringUtils.isNotBlank(path)) {
+            paths.add(path);
+        }
+    }
+
     public boolean hasAccess(Object[] args, List<String> labels) {
         return executionDAO.hasAccess(args, labels);
     }
@@ -17,12 +17,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -41,6 +40,7 @@ import com.netflix.conductor.core.events.queue.ObservableQueue;
 import com.netflix.conductor.core.exception.TransientException;
 import com.netflix.conductor.core.execution.evaluators.Evaluator;
 import com.netflix.conductor.core.utils.JsonUtils;
+import com.netflix.conductor.core.utils.WorkerExecutors;
 import com.netflix.conductor.metrics.Monitors;
 import com.netflix.conductor.service.ExecutionService;
 import com.netflix.conductor.service.MetadataService;
@@ -98,69 +98,115 @@ public class DefaultEventProcessor {
                     "Cannot set event processor thread count to <=0. To disable event "
                             + "processing, set conductor.default-event-processor.enabled=false.");
         }
-        ThreadFactory threadFactory =
-                new BasicThreadFactory.Builder()
-                        .namingPattern("event-action-executor-thread-%d")
-                        .build();
         eventActionExecutorService =
-                Executors.newFixedThreadPool(
-                        properties.getEventProcessorThreadCount(), threadFactory);
+                WorkerExecutors.newExecutor(
+                        properties.isVirtualThreadsEnabled(),
+                        properties.getEventProcessorThreadCount(),
+                        "event-action-executor-thread-%d");
 
         this.isEventMessageIndexingEnabled = properties.isEventMessageIndexingEnabled();
         LOGGER.info("Event Processing is ENABLED");
     }
 
     public void handle(ObservableQueue queue, Message msg) {
-        List<EventExecution> transientFailures = null;
-        boolean executionFailed = false;
-        try {
-            if (isEventMessageIndexingEnabled) {
-                executionService.addMessage(queue.getName(), msg);
+        handle(queue, Collections.singletonList(msg));
+    }
+
+    /**
+     * Handles a batch of messages received from the queue. The actions of all the messages and
+     * event handlers are executed concurrently, and the messages are ack'ed, re-published or
+     * nack'ed together once all of them are processed.
+     */
+    public void handle(ObservableQueue queue, List<Message> messages) {
+        long receivedTime = System.currentTimeMillis();
+        String event = queue.getType() + ":" + queue.getName();
+        List<CompletableFuture<List<EventExecution>>> futures = new ArrayList<>(messages.size());
+        for (Message msg : messages) {
+            CompletableFuture<List<EventExecution>> future;
+            try {
+                if (isEventMessageIndexingEnabled) {
+                    executionService.addMessage(queue.getName(), msg);
+                }
+                LOGGER.debug("Evaluating message: {} for event: {}", msg.getId(), event);
+                future = executeEvent(event, msg);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future);
+        }
+
+        List<Message> acked = new ArrayList<>();
+        List<Message> republished = new ArrayList<>();
+        List<Message> nacked = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Message msg = messages.get(i);
+            List<EventExecution> transientFailures = null;
+            boolean executionFailed = false;
+            try {
+                transientFailures = futures.get(i).join();
+            } catch (Exception e) {
+                executionFailed = true;
+                LOGGER.error(
+                        "Error handling message: {} on queue:{}",
+                        msg,
+                        queue.getName(),
+                        e instanceof CompletionException ? e.getCause() : e);
+                Monitors.recordEventQueueMessagesError(queue.getType(), queue.getName());
             }
-            String event = queue.getType() + ":" + queue.getName();
-            LOGGER.debug("Evaluating message: {} for event: {}", msg.getId(), event);
-            transientFailures = executeEvent(event, msg);
-        } catch (Exception e) {
-            executionFailed = true;
-            LOGGER.error("Error handling message: {} on queue:{}", msg, queue.getName(), e);
-            Monitors.recordEventQueueMessagesError(queue.getType(), queue.getName());
-        } finally {
             if (!executionFailed && CollectionUtils.isEmpty(transientFailures)) {
-                queue.ack(Collections.singletonList(msg));
-                LOGGER.debug("Message: {} acked on queue: {}", msg.getId(), queue.getName());
+                acked.add(msg);
             } else if (queue.rePublishIfNoAck() || !CollectionUtils.isEmpty(transientFailures)) {
                 // re-submit this message to the queue, to be retried later
                 // This is needed for queues with no unack timeout, since messages are removed
                 // from the queue
-                queue.publish(Collections.singletonList(msg));
-                LOGGER.debug("Message: {} published to queue: {}", msg.getId(), queue.getName());
+                republished.add(msg);
             } else {
-                queue.nack(Collections.singletonList(msg));
-                LOGGER.debug("Message: {} nacked on queue: {}", msg.getId(), queue.getName());
+                nacked.add(msg);
             }
-            Monitors.recordEventQueueMessagesHandled(queue.getType(), queue.getName());
+        }
+        if (!acked.isEmpty()) {
+            queue.ack(acked);
+            LOGGER.debug("{} messages acked on queue: {}", acked.size(), queue.getName());
+        }
+        if (!republished.isEmpty()) {
+            queue.publish(republished);
+            LOGGER.debug("{} messages published to queue: {}", republished.size(), queue.getName());
+        }
+        if (!nacked.isEmpty()) {
+            queue.nack(nacked);
+            LOGGER.debug("{} messages nacked on queue: {}", nacked.size(), queue.getName());
+        }
+
+        Monitors.recordEventQueueMessagesHandled(queue.getType(), queue.getName(), messages.size());
+        long latency = System.currentTimeMillis() - receivedTime;
+        for (int i = 0; i < messages.size(); i++) {
+            Monitors.recordEventQueueMessageLatency(queue.getType(), queue.getName(), latency);
         }
     }
 
     /**
      * Executes all the actions configured on all the event handlers triggered by the {@link
-     * Message} on the queue If any of the actions on an event handler fails due to a transient
-     * failure, the execution is not persisted such that it can be retried
+     * Message} on the queue. The actions of all the event handlers are executed concurrently. If
+     * any of the actions on an event handler fails due to a transient failure, the execution is not
+     * persisted such that it can be retried
      *
-     * @return a list of {@link EventExecution} that failed due to transient failures.
+     * @return a future holding the list of {@link EventExecution} that failed due to transient
+     *     failures.
      */
-    protected List<EventExecution> executeEvent(String event, Message msg) throws Exception {
+    protected CompletableFuture<List<EventExecution>> executeEvent(String event, Message msg)
+            throws Exception {
         List<EventHandler> eventHandlerList;
-        List<EventExecution> transientFailures = new ArrayList<>();
 
         try {
             eventHandlerList = metadataService.getEventHandlersForEvent(event, true);
         } catch (TransientException transientException) {
+            List<EventExecution> transientFailures = new ArrayList<>();
             transientFailures.add(new EventExecution(event, msg.getId()));
-            return transientFailures;
+            return CompletableFuture.completedFuture(transientFailures);
         }
 
         Object payloadObject = getPayloadObject(msg.getPayload());
+        List<CompletableFuture<List<EventExecution>>> futures = new ArrayList<>();
         for (EventHandler eventHandler : eventHandlerList) {
             String condition = eventHandler.getCondition();
             String evaluatorType = eventHandler.getEvaluatorType();
@@ -196,24 +242,29 @@ public class DefaultEventProcessor {
                 continue;
             }
 
-            CompletableFuture<List<EventExecution>> future =
-                    executeActionsForEventHandler(eventHandler, msg);
-            future.whenComplete(
-                            (result, error) ->
-                                    result.forEach(
-                                            eventExecution -> {
-                                                if (error != null
-                                                        || eventExecution.getStatus()
-                                                                == Status.IN_PROGRESS) {
-                                                    transientFailures.add(eventExecution);
-                                                } else {
-                                                    executionService.updateEventExecution(
-                                                            eventExecution);
-                                                }
-                                            }))
-                    .get();
+            futures.add(
+                    executeActionsForEventHandler(eventHandler, msg)
+                            .thenApply(
+                                    result -> {
+                                        List<EventExecution> transientFailures = new ArrayList<>();
+                                        for (EventExecution eventExecution : result) {
+                                            if (eventExecution.getStatus() == Status.IN_PROGRESS) {
+                                                transientFailures.add(eventExecution);
+                                            } else {
+                                                executionService.updateEventExecution(
+                                                        eventExecution);
+                                            }
+                                        }
+                                        return transientFailures;
+                                    }));
         }
-        return processTransientFailures(transientFailures);
+        return CompletableFutures.allAsList(futures)
+                .thenApply(
+                        results ->
+                                processTransientFailures(
+                                        results.stream()
+                                                .flatMap(List::stream)
+                                                .collect(Collectors.toList())));
     }
 
     /**
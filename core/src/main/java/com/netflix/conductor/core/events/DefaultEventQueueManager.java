@@ -175,6 +175,8 @@ public class DefaultEventQueueManager extends LifecycleAwareComponent implements
     }
 
     private void listen(ObservableQueue queue) {
-        queue.observe().subscribe((Message msg) -> defaultEventProcessor.handle(queue, msg));
+        queue.observeBatches()
+                .subscribe(
+                        (List<Message> messages) -> defaultEventProcessor.handle(queue, messages));
     }
 }
@@ -13,15 +13,40 @@
 package com.netflix.conductor.core.events;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
+import com.netflix.conductor.metrics.Monitors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
 public class ScriptEvaluator {
 
+    private static final int SCRIPT_CACHE_SIZE = 1_000;
+
     private static final ScriptEngine engine = new NashornScriptEngineFactory().getScriptEngine();
 
+    /**
+     * Scripts compiled once per text. A compiled script keeps no state of its own; each evaluation
+     * runs against fresh bindings, so the same script can be evaluated by many threads at once.
+     */
+    private static final Cache<String, CompiledScript> compiledScripts =
+            Caffeine.newBuilder()
+                    .maximumSize(SCRIPT_CACHE_SIZE)
+                    .removalListener(
+                            (String script, CompiledScript compiled, RemovalCause cause) -> {
+                                if (cause == RemovalCause.SIZE) {
+                                    Monitors.recordScriptCacheEviction();
+                                }
+                            })
+                    .build();
+
     private ScriptEvaluator() {}
 
     /**
@@ -48,7 +73,16 @@ public class ScriptEvaluator {
     public static Object eval(String script, Object input) throws ScriptException {
         Bindings bindings = engine.createBindings();
         bindings.put("$", input);
-        return engine.eval(script, bindings);
+        return compile(script).eval(bindings);
+    }
+
+    private static CompiledScript compile(String script) throws ScriptException {
+        CompiledScript compiled = compiledScripts.getIfPresent(script);
+        if (compiled == null) {
+            compiled = ((Compilable) engine).compile(script);
+            compiledScripts.put(script, compiled);
+        }
+        return compiled;
     }
 
     /**
@@ -61,7 +61,15 @@ public class ConductorObservableQueue implements ObservableQueue {
 
     @Override
     public Observable<Message> observe() {
-        OnSubscribe<Message> subscriber = getOnSubscribe();
+        return observeBatches().concatMap(Observable::from);
+    }
+
+    /**
+     * @return An observable emitting the messages of each poll of the queue as one batch
+     */
+    @Override
+    public Observable<List<Message>> observeBatches() {
+        OnSubscribe<List<Message>> subscriber = getOnSubscribe();
         return Observable.create(subscriber);
     }
 
@@ -115,20 +123,20 @@ public class ConductorObservableQueue implements ObservableQueue {
         return new ArrayList<>();
     }
 
-    private OnSubscribe<Message> getOnSubscribe() {
+    private OnSubscribe<List<Message>> getOnSubscribe() {
         return subscriber -> {
             Observable<Long> interval =
                     Observable.interval(pollTimeMS, TimeUnit.MILLISECONDS, scheduler);
-            interval.flatMap(
+            interval.map(
                             (Long x) -> {
                                 if (!isRunning()) {
                                     LOGGER.debug(
                                             "Component stopped, skip listening for messages from Conductor Queue");
-                                    return Observable.from(Collections.emptyList());
+                                    return Collections.<Message>emptyList();
                                 }
-                                List<Message> messages = receiveMessages();
-                                return Observable.from(messages);
+                                return receiveMessages();
                             })
+                    .filter(messages -> !messages.isEmpty())
                     .subscribe(subscriber::onNext, subscriber::onError);
         };
     }
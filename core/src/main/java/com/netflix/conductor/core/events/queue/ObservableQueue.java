@@ -12,6 +12,7 @@
  */
 package com.netflix.conductor.core.events.queue;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.context.Lifecycle;
@@ -25,6 +26,14 @@ public interface ObservableQueue extends Lifecycle {
      */
     Observable<Message> observe();
 
+    /**
+     * @return An observable for the batches of messages received from the given queue, so that they
+     *     can be processed and ack'ed together. By default, each message is a batch of its own.
+     */
+    default Observable<List<Message>> observeBatches() {
+        return observe().map(Collections::singletonList);
+    }
+
     /**
      * @return Type of the queue
      */
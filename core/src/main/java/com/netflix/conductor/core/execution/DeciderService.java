@@ -181,9 +181,8 @@ public class DeciderService {
             if (taskDefinition.isEmpty()) {
                 taskDefinition =
                         Optional.ofNullable(
-                                        workflow.getWorkflowDefinition()
-                                                .getTaskByRefName(
-                                                        pendingTask.getReferenceTaskName()))
+                                        workflow.getWorkflowTask(
+                                                pendingTask.getReferenceTaskName()))
                                 .map(WorkflowTask::getTaskDefinition);
             }
 
@@ -200,9 +199,7 @@ public class DeciderService {
             if (!pendingTask.getStatus().isSuccessful()) {
                 WorkflowTask workflowTask = pendingTask.getWorkflowTask();
                 if (workflowTask == null) {
-                    workflowTask =
-                            workflow.getWorkflowDefinition()
-                                    .getTaskByRefName(pendingTask.getReferenceTaskName());
+                    workflowTask = workflow.getWorkflowTask(pendingTask.getReferenceTaskName());
                 }
 
                 Optional<TaskModel> retryTask =
@@ -484,12 +481,7 @@ public class DeciderService {
         if (taskToSchedule != null && TaskType.DO_WHILE.name().equals(taskToSchedule.getType())) {
             // check if already has this DO_WHILE task, ignore it if it already exists
             String nextTaskReferenceName = taskToSchedule.getTaskReferenceName();
-            if (workflow.getTasks().stream()
-                    .anyMatch(
-                            runningTask ->
-                                    runningTask
-                                            .getReferenceTaskName()
-                                            .equals(nextTaskReferenceName))) {
+            if (workflow.getTaskByRefName(nextTaskReferenceName) != null) {
                 return Collections.emptyList();
             }
         }
@@ -13,6 +13,7 @@
 package com.netflix.conductor.core.execution;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -539,6 +540,7 @@ public class WorkflowExecutor {
                                 .collect(Collectors.toSet()));
 
         executionDAOFacade.updateWorkflow(workflow);
+        executionDAOFacade.flushUnitOfWork();
         LOGGER.debug("Completed workflow execution for {}", workflow.getWorkflowId());
         workflowStatusListener.onWorkflowCompletedIfEnabled(workflow);
         Monitors.recordWorkflowCompletion(
@@ -556,6 +558,7 @@ public class WorkflowExecutor {
             expediteLazyWorkflowEvaluation(workflow.getParentWorkflowId());
         }
 
+        executionDAOFacade.flushUnitOfWork();
         executionLockService.releaseLock(workflow.getWorkflowId());
         executionLockService.deleteLock(workflow.getWorkflowId());
         return workflow;
@@ -578,8 +581,11 @@ public class WorkflowExecutor {
      */
     public WorkflowModel terminateWorkflow(
             WorkflowModel workflow, String reason, String failureWorkflow) {
+        if (!executionLockService.acquireLock(workflow.getWorkflowId(), 60000)) {
+            throw new TransientException(
+                    "Error acquiring lock when terminating workflow: " + workflow.getWorkflowId());
+        }
         try {
-            executionLockService.acquireLock(workflow.getWorkflowId(), 60000);
 
             if (!workflow.getStatus().isTerminal()) {
                 workflow.setStatus(WorkflowModel.Status.TERMINATED);
@@ -621,6 +627,7 @@ public class WorkflowExecutor {
             String workflowId = workflow.getWorkflowId();
             workflow.setReasonForIncompletion(reason);
             executionDAOFacade.updateWorkflow(workflow);
+            executionDAOFacade.flushUnitOfWork();
             workflowStatusListener.onWorkflowTerminatedIfEnabled(workflow);
             Monitors.recordWorkflowTermination(
                     workflow.getWorkflowName(), workflow.getStatus(), workflow.getOwnerApp());
@@ -696,6 +703,7 @@ public class WorkflowExecutor {
             }
             return workflow;
         } finally {
+            executionDAOFacade.flushUnitOfWork();
             executionLockService.releaseLock(workflow.getWorkflowId());
             executionLockService.deleteLock(workflow.getWorkflowId());
         }
@@ -1008,6 +1016,18 @@ public class WorkflowExecutor {
 
     /** Records a metric for the "decide" process. */
     public WorkflowModel decide(String workflowId) {
+        return decide(workflowId, workflow -> {});
+    }
+
+    /**
+     * Evaluates the workflow as {@link #decide(String)} does, running a step on the loaded workflow
+     * first, under the same lock, so that the step does not load the workflow again.
+     *
+     * @param workflowId the id of the workflow to evaluate
+     * @param beforeDecide the step to run on the workflow before it is evaluated
+     * @return the evaluated workflow, or null if it could not be evaluated now
+     */
+    public WorkflowModel decide(String workflowId, Consumer<WorkflowModel> beforeDecide) {
         StopWatch watch = new StopWatch();
         watch.start();
         if (!executionLockService.acquireLock(workflowId)) {
@@ -1020,7 +1040,17 @@ public class WorkflowExecutor {
                 // This can happen if the workflowId is incorrect
                 return null;
             }
-            return decide(workflow);
+            beforeDecide.accept(workflow);
+            // the writes of this pass must be sent before the lock is released
+            executionDAOFacade.startUnitOfWork();
+            boolean decided = false;
+            try {
+                WorkflowModel decidedWorkflow = decide(workflow);
+                decided = true;
+                return decidedWorkflow;
+            } finally {
+                executionDAOFacade.endUnitOfWork(decided);
+            }
 
         } finally {
             executionLockService.releaseLock(workflowId);
@@ -1224,8 +1254,11 @@ public class WorkflowExecutor {
      * @throws ConflictException if the workflow is in terminal state.
      */
     public void pauseWorkflow(String workflowId) {
+        if (!executionLockService.acquireLock(workflowId, 60000)) {
+            throw new TransientException(
+                    "Error acquiring lock when pausing workflow: " + workflowId);
+        }
         try {
-            executionLockService.acquireLock(workflowId, 60000);
             WorkflowModel.Status status = WorkflowModel.Status.PAUSED;
             WorkflowModel workflow = executionDAOFacade.getWorkflowModel(workflowId, false);
             if (workflow.getStatus().isTerminal()) {
@@ -1349,6 +1382,8 @@ public class WorkflowExecutor {
     }
 
     public void addTaskToQueue(TaskModel task) {
+        // the task must be stored before a worker can poll it
+        executionDAOFacade.flushUnitOfWork();
         // put in queue
         String taskQueueName = QueueUtils.getQueueName(task);
         if (task.getCallbackAfterSeconds() > 0) {
@@ -1630,14 +1665,8 @@ public class WorkflowExecutor {
             return true;
         }
 
-        // Now iterate through the tasks and find the "specific" task
-        TaskModel rerunFromTask = null;
-        for (TaskModel task : workflow.getTasks()) {
-            if (task.getTaskId().equals(taskId)) {
-                rerunFromTask = task;
-                break;
-            }
-        }
+        // Now find the "specific" task
+        TaskModel rerunFromTask = workflow.getTaskById(taskId);
 
         // If not found look into sub workflows
         if (rerunFromTask == null) {
@@ -1782,6 +1811,7 @@ public class WorkflowExecutor {
      * @param workflowId The workflow to be evaluated at higher priority
      */
     private void expediteLazyWorkflowEvaluation(String workflowId) {
+        executionDAOFacade.flushUnitOfWork();
         if (queueDAO.containsMessage(DECIDER_QUEUE, workflowId)) {
             queueDAO.postpone(DECIDER_QUEUE, workflowId, EXPEDITED_PRIORITY, 0);
         } else {
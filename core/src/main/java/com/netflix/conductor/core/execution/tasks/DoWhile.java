@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 
 import javax.script.ScriptException;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,7 @@ import com.netflix.conductor.annotations.VisibleForTesting;
 import com.netflix.conductor.common.metadata.tasks.TaskDef;
 import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
 import com.netflix.conductor.common.utils.TaskUtils;
+import com.netflix.conductor.core.dal.ExecutionDAOFacade;
 import com.netflix.conductor.core.events.ScriptEvaluator;
 import com.netflix.conductor.core.execution.WorkflowExecutor;
 import com.netflix.conductor.core.utils.ParametersUtils;
@@ -38,11 +40,19 @@ public class DoWhile extends WorkflowSystemTask {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DoWhile.class);
 
+    /**
+     * Input parameter of the loop: when set, only the tasks and the output of the last given number
+     * of iterations are kept.
+     */
+    public static final String KEEP_LAST_N = "keepLastN";
+
     private final ParametersUtils parametersUtils;
+    private final ExecutionDAOFacade executionDAOFacade;
 
-    public DoWhile(ParametersUtils parametersUtils) {
+    public DoWhile(ParametersUtils parametersUtils, ExecutionDAOFacade executionDAOFacade) {
         super(TASK_TYPE_DO_WHILE);
         this.parametersUtils = parametersUtils;
+        this.executionDAOFacade = executionDAOFacade;
     }
 
     @Override
@@ -63,17 +73,20 @@ public class DoWhile extends WorkflowSystemTask {
          * that have already failed if there is a more current one (a later retry count).
          */
         Map<String, TaskModel> relevantTasks = new LinkedHashMap<>();
-        TaskModel relevantTask;
-        for (TaskModel t : workflow.getTasks()) {
-            if (doWhileTaskModel
-                            .getWorkflowTask()
-                            .has(TaskUtils.removeIterationFromTaskRefName(t.getReferenceTaskName()))
-                    && !doWhileTaskModel.getReferenceTaskName().equals(t.getReferenceTaskName())
-                    && doWhileTaskModel.getIteration() == t.getIteration()) {
-                relevantTask = relevantTasks.get(t.getReferenceTaskName());
-                if (relevantTask == null || t.getRetryCount() > relevantTask.getRetryCount()) {
-                    relevantTasks.put(t.getReferenceTaskName(), t);
-                }
+        for (WorkflowTask loopOverTask : doWhileTaskModel.getWorkflowTask().collectTasks()) {
+            if (loopOverTask
+                    .getTaskReferenceName()
+                    .equals(doWhileTaskModel.getReferenceTaskName())) {
+                continue;
+            }
+            // looked up by reference name, which yields the latest retry of the task
+            TaskModel t =
+                    workflow.getTaskByRefName(
+                            TaskUtils.appendIteration(
+                                    loopOverTask.getTaskReferenceName(),
+                                    doWhileTaskModel.getIteration()));
+            if (t != null && doWhileTaskModel.getIteration() == t.getIteration()) {
+                relevantTasks.put(t.getReferenceTaskName(), t);
             }
         }
         Collection<TaskModel> loopOverTasks = relevantTasks.values();
@@ -125,6 +138,8 @@ public class DoWhile extends WorkflowSystemTask {
             return false;
         }
 
+        removeOldIterations(workflow, doWhileTaskModel);
+
         // if we are here, the iteration is complete, and we need to check if there is a next
         // iteration by evaluating the loopCondition
         boolean shouldContinue;
@@ -199,6 +214,52 @@ public class DoWhile extends WorkflowSystemTask {
                 .noneMatch(taskModel -> !taskModel.getStatus().isTerminal());
     }
 
+    /**
+     * Removes the tasks and the output of the iterations older than the last {@link #KEEP_LAST_N}
+     * ones, if the loop has this input parameter, so that long-running loops do not make the
+     * workflow grow with every iteration.
+     */
+    @VisibleForTesting
+    void removeOldIterations(WorkflowModel workflow, TaskModel doWhileTaskModel) {
+        int keepLastN = getKeepLastN(doWhileTaskModel);
+        int oldestKeptIteration = doWhileTaskModel.getIteration() - keepLastN + 1;
+        if (keepLastN <= 0 || oldestKeptIteration <= 1) {
+            return;
+        }
+        Iterator<TaskModel> iterator = workflow.getTasks().iterator();
+        while (iterator.hasNext()) {
+            TaskModel task = iterator.next();
+            if (task.getIteration() < oldestKeptIteration
+                    && !task.getReferenceTaskName().equals(doWhileTaskModel.getReferenceTaskName())
+                    && doWhileTaskModel
+                            .getWorkflowTask()
+                            .has(
+                                    TaskUtils.removeIterationFromTaskRefName(
+                                            task.getReferenceTaskName()))) {
+                executionDAOFacade.removeTask(workflow, task);
+                iterator.remove();
+            }
+        }
+        doWhileTaskModel
+                .getOutputData()
+                .keySet()
+                .removeIf(
+                        key ->
+                                StringUtils.isNumeric(key)
+                                        && Integer.parseInt(key) < oldestKeptIteration);
+    }
+
+    private int getKeepLastN(TaskModel doWhileTaskModel) {
+        Object keepLastN = doWhileTaskModel.getInputData().get(KEEP_LAST_N);
+        if (keepLastN instanceof Number) {
+            return ((Number) keepLastN).intValue();
+        }
+        if (keepLastN instanceof String && StringUtils.isNumeric((String) keepLastN)) {
+            return Integer.parseInt((String) keepLastN);
+        }
+        return 0;
+    }
+
     boolean scheduleNextIteration(
             TaskModel doWhileTaskModel, WorkflowModel workflow, WorkflowExecutor workflowExecutor) {
         LOGGER.debug(
@@ -13,23 +13,19 @@
 package com.netflix.conductor.core.execution.tasks;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import com.netflix.conductor.core.utils.SemaphoreUtil;
+import com.netflix.conductor.core.utils.WorkerExecutors;
 
 class ExecutionConfig {
 
     private final ExecutorService executorService;
     private final SemaphoreUtil semaphoreUtil;
 
-    ExecutionConfig(int threadCount, String threadNameFormat) {
+    ExecutionConfig(boolean virtualThreadsEnabled, int threadCount, String threadNameFormat) {
 
         this.executorService =
-                Executors.newFixedThreadPool(
-                        threadCount,
-                        new BasicThreadFactory.Builder().namingPattern(threadNameFormat).build());
+                WorkerExecutors.newExecutor(virtualThreadsEnabled, threadCount, threadNameFormat);
 
         this.semaphoreUtil = new SemaphoreUtil(threadCount);
     }
@@ -12,14 +12,21 @@
  */
 package com.netflix.conductor.core.execution.tasks;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -46,6 +53,7 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
     private static final Logger LOGGER = LoggerFactory.getLogger(SystemTaskWorker.class);
 
     private final long pollInterval;
+    private final long maxPollInterval;
     private final QueueDAO queueDAO;
 
     ExecutionConfig defaultExecutionConfig;
@@ -55,6 +63,18 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
 
     ConcurrentHashMap<String, ExecutionConfig> queueExecutionConfigMap = new ConcurrentHashMap<>();
 
+    /** The queues polled by the shared poller, keyed by queue name. */
+    private final Map<String, PolledQueue> polledQueues = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService pollerExecutor =
+            Executors.newSingleThreadScheduledExecutor(
+                    new BasicThreadFactory.Builder()
+                            .namingPattern("system-task-poller-%d")
+                            .daemon(true)
+                            .build());
+    private final AtomicBoolean pollerStarted = new AtomicBoolean();
+    private int roundRobinOffset = 0;
+
     public SystemTaskWorker(
             QueueDAO queueDAO,
             AsyncSystemTaskExecutor asyncSystemTaskExecutor,
@@ -62,10 +82,14 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
             ExecutionService executionService) {
         this.properties = properties;
         int threadCount = properties.getSystemTaskWorkerThreadCount();
-        this.defaultExecutionConfig = new ExecutionConfig(threadCount, "system-task-worker-%d");
+        this.defaultExecutionConfig =
+                new ExecutionConfig(
+                        properties.isVirtualThreadsEnabled(), threadCount, "system-task-worker-%d");
         this.asyncSystemTaskExecutor = asyncSystemTaskExecutor;
         this.queueDAO = queueDAO;
         this.pollInterval = properties.getSystemTaskWorkerPollInterval().toMillis();
+        this.maxPollInterval =
+                Math.max(pollInterval, properties.getSystemTaskWorkerMaxPollInterval().toMillis());
         this.executionService = executionService;
 
         LOGGER.info("SystemTaskWorker initialized with {} threads", threadCount);
@@ -75,21 +99,86 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
         startPolling(systemTask, systemTask.getTaskType());
     }
 
+    /**
+     * Adds the queue to the ones polled by the shared poller thread, which is started with the
+     * first queue.
+     */
     public void startPolling(WorkflowSystemTask systemTask, String queueName) {
-        Executors.newSingleThreadScheduledExecutor()
-                .scheduleWithFixedDelay(
-                        () -> this.pollAndExecute(systemTask, queueName),
-                        1000,
-                        pollInterval,
-                        TimeUnit.MILLISECONDS);
+        if (!addPolledQueue(systemTask, queueName)) {
+            return;
+        }
+        if (pollerStarted.compareAndSet(false, true)) {
+            pollerExecutor.scheduleWithFixedDelay(
+                    this::pollQueues, 1000, pollInterval, TimeUnit.MILLISECONDS);
+        }
         LOGGER.info("Started listening for task: {} in queue: {}", systemTask, queueName);
     }
 
-    void pollAndExecute(WorkflowSystemTask systemTask, String queueName) {
+    @VisibleForTesting
+    boolean addPolledQueue(WorkflowSystemTask systemTask, String queueName) {
+        return polledQueues.putIfAbsent(queueName, new PolledQueue(systemTask, queueName)) == null;
+    }
+
+    /**
+     * Polls every queue that is due. Queues whose last poll returned the most tasks are polled
+     * first, so the busiest queues get the free slots they share; the remaining order rotates on
+     * every run. The number of tasks returned by the last poll stands in for the queue depth, which
+     * would cost an extra round trip per queue to read.
+     *
+     * <p>A queue that comes back empty is polled less often, doubling its interval up to {@link
+     * ConductorProperties#getSystemTaskWorkerMaxPollInterval()}, and goes back to the regular
+     * interval as soon as it returns a task.
+     */
+    @VisibleForTesting
+    void pollQueues() {
+        try {
+            long now = System.currentTimeMillis();
+            List<PolledQueue> dueQueues =
+                    polledQueues.values().stream()
+                            .filter(polledQueue -> polledQueue.nextPollTime <= now)
+                            .collect(Collectors.toList());
+            if (dueQueues.isEmpty()) {
+                return;
+            }
+            Collections.rotate(dueQueues, roundRobinOffset++ % dueQueues.size());
+            dueQueues.sort(
+                    Comparator.comparingInt((PolledQueue polledQueue) -> polledQueue.lastPolled)
+                            .reversed());
+
+            for (PolledQueue polledQueue : dueQueues) {
+                int polled = pollAndExecute(polledQueue.systemTask, polledQueue.queueName);
+                if (polled < 0) {
+                    // not polled, try again on the next run
+                    continue;
+                }
+                polledQueue.lastPolled = polled;
+                if (polled > 0) {
+                    polledQueue.interval = pollInterval;
+                } else {
+                    Monitors.recordSystemTaskWorkerEmptyPoll(polledQueue.queueName);
+                    polledQueue.interval = Math.min(polledQueue.interval * 2, maxPollInterval);
+                }
+                polledQueue.nextPollTime = now + polledQueue.interval;
+                Monitors.recordSystemTaskWorkerPollInterval(
+                        polledQueue.queueName, polledQueue.interval);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error polling system task queues", e);
+        }
+    }
+
+    /**
+     * Polls the queue once for as many tasks as there are free slots, without waiting for tasks to
+     * arrive, and hands them to the executor.
+     *
+     * @return the number of tasks polled, or -1 if the queue was not polled because there were no
+     *     free slots or the worker is stopped
+     */
+    int pollAndExecute(WorkflowSystemTask systemTask, String queueName) {
         if (!isRunning()) {
             LOGGER.debug(
                     "{} stopped. Not polling for task: {}", getClass().getSimpleName(), systemTask);
-            return;
+            return -1;
         }
 
         ExecutionConfig executionConfig = getExecutionConfig(queueName);
@@ -103,12 +192,12 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
             if (messagesToAcquire <= 0 || !semaphoreUtil.acquireSlots(messagesToAcquire)) {
                 // no available slots, do not poll
                 Monitors.recordSystemTaskWorkerPollingLimited(queueName);
-                return;
+                return -1;
             }
 
             LOGGER.debug("Polling queue: {} with {} slots acquired", queueName, messagesToAcquire);
 
-            List<String> polledTaskIds = queueDAO.pop(queueName, messagesToAcquire, 200);
+            List<String> polledTaskIds = queueDAO.pop(queueName, messagesToAcquire, 0);
 
             Monitors.recordTaskPoll(queueName);
             LOGGER.debug("Polling queue:{}, got {} tasks", queueName, polledTaskIds.size());
@@ -146,12 +235,14 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
                 // no task polled, release permit
                 semaphoreUtil.completeProcessing(messagesToAcquire);
             }
+            return polledTaskIds.size();
         } catch (Exception e) {
             // release the permit if exception is thrown during polling, because the thread would
             // not be busy
             semaphoreUtil.completeProcessing(messagesToAcquire);
             Monitors.recordTaskPollError(taskName, e.getClass().getSimpleName());
             LOGGER.error("Error polling system task in queue:{}", queueName, e);
+            return 0;
         }
     }
 
@@ -167,6 +258,21 @@ public class SystemTaskWorker extends LifecycleAwareComponent {
     private ExecutionConfig createExecutionConfig() {
         int threadCount = properties.getIsolatedSystemTaskWorkerThreadCount();
         String threadNameFormat = "isolated-system-task-worker-%d";
-        return new ExecutionConfig(threadCount, threadNameFormat);
+        return new ExecutionConfig(
+                properties.isVirtualThreadsEnabled(), threadCount, threadNameFormat);
+    }
+
+    private class PolledQueue {
+
+        private final WorkflowSystemTask systemTask;
+        private final String queueName;
+        private long interval = pollInterval;
+        private long nextPollTime = 0;
+        private int lastPolled = 0;
+
+        PolledQueue(WorkflowSystemTask systemTask, String queueName) {
+            this.systemTask = systemTask;
+            this.queueName = queueName;
+        }
     }
 }
@@ -12,6 +12,7 @@
  */
 package com.netflix.conductor.core.metadata;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -104,16 +105,16 @@ public class MetadataMapperService {
                                     return wd;
                                 });
 
-        workflowDefinition.collectTasks().forEach(this::populateWorkflowTaskWithDefinition);
-        checkNotEmptyDefinitions(workflowDefinition);
+        populateTaskDefinitions(workflowDefinition);
 
         return workflow;
     }
 
     public WorkflowDef populateTaskDefinitions(WorkflowDef workflowDefinition) {
         Utils.checkNotNull(workflowDefinition, "workflowDefinition cannot be null");
-        workflowDefinition.collectTasks().forEach(this::populateWorkflowTaskWithDefinition);
-        checkNotEmptyDefinitions(workflowDefinition);
+        List<WorkflowTask> workflowTasks = workflowDefinition.collectTasks();
+        workflowTasks.forEach(this::populateWorkflowTaskWithDefinition);
+        checkNotEmptyDefinitions(workflowDefinition, workflowTasks);
         return workflowDefinition;
     }
 
@@ -154,12 +155,11 @@ public class MetadataMapperService {
         }
     }
 
-    private void checkNotEmptyDefinitions(WorkflowDef workflowDefinition) {
-        Utils.checkNotNull(workflowDefinition, "WorkflowDefinition cannot be null");
-
+    private void checkNotEmptyDefinitions(
+            WorkflowDef workflowDefinition, List<WorkflowTask> workflowTasks) {
         // Obtain the names of the tasks with missing definitions
         Set<String> missingTaskDefinitionNames =
-                workflowDefinition.collectTasks().stream()
+                workflowTasks.stream()
                         .filter(
                                 workflowTask ->
                                         workflowTask.getType().equals(TaskType.SIMPLE.name()))
@@ -12,10 +12,14 @@
  */
 package com.netflix.conductor.core.operation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -23,6 +27,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.common.model.BulkResponse;
 import com.netflix.conductor.core.WorkflowContext;
 import com.netflix.conductor.core.dal.ExecutionDAOFacade;
 import com.netflix.conductor.core.event.WorkflowCreationEvent;
@@ -73,6 +78,91 @@ public class StartWorkflowOperation implements WorkflowOperation<StartWorkflowIn
         startWorkflow(workflowCreationEvent.getStartWorkflowInput());
     }
 
+    /**
+     * Starts the given workflows together. The definition of each name and version is looked up
+     * once, the workflows are written within one unit of work and pushed to the decider queue with
+     * a single call. They are not evaluated here: like the workflows recovered by the sweeper, they
+     * are evaluated once picked from the decider queue.
+     *
+     * @param inputs the workflows to be started
+     * @return bulk response object containing the ids of the started workflows, and the errors of
+     *     the other ones keyed by their position in the given list
+     */
+    public BulkResponse startWorkflows(List<StartWorkflowInput> inputs) {
+        BulkResponse bulkResponse = new BulkResponse();
+        Map<ImmutablePair<String, Integer>, WorkflowDef> definitions = new HashMap<>();
+        Map<ImmutablePair<String, Integer>, RuntimeException> definitionErrors = new HashMap<>();
+        List<WorkflowModel> workflows = new ArrayList<>(inputs.size());
+        List<Integer> positions = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            StartWorkflowInput input = inputs.get(i);
+            try {
+                WorkflowDef workflowDefinition;
+                if (input.getWorkflowDefinition() == null) {
+                    ImmutablePair<String, Integer> key =
+                            new ImmutablePair<>(input.getName(), input.getVersion());
+                    if (definitionErrors.containsKey(key)) {
+                        throw definitionErrors.get(key);
+                    }
+                    workflowDefinition = definitions.get(key);
+                    if (workflowDefinition == null) {
+                        try {
+                            workflowDefinition =
+                                    metadataMapperService.populateTaskDefinitions(
+                                            metadataMapperService.lookupForWorkflowDefinition(
+                                                    input.getName(), input.getVersion()));
+                        } catch (RuntimeException e) {
+                            definitionErrors.put(key, e);
+                            throw e;
+                        }
+                        definitions.put(key, workflowDefinition);
+                    }
+                } else {
+                    workflowDefinition =
+                            metadataMapperService.populateTaskDefinitions(
+                                    input.getWorkflowDefinition());
+                }
+                String workflowId =
+                        Optional.ofNullable(input.getWorkflowId()).orElseGet(idGenerator::generate);
+                workflows.add(newWorkflow(input, workflowDefinition, workflowId));
+                positions.add(i);
+            } catch (Exception e) {
+                LOGGER.error("Unable to start workflow: {}", input.getName(), e);
+                bulkResponse.appendFailedResponse(String.valueOf(i), e.getMessage());
+            }
+        }
+        if (workflows.isEmpty()) {
+            return bulkResponse;
+        }
+
+        try {
+            executionDAOFacade.createWorkflows(workflows);
+        } catch (Exception e) {
+            LOGGER.error("Unable to start {} workflows", workflows.size(), e);
+            for (int i = 0; i < workflows.size(); i++) {
+                WorkflowModel workflow = workflows.get(i);
+                Monitors.recordWorkflowStartError(
+                        workflow.getWorkflowName(), workflow.getOwnerApp());
+                try {
+                    executionDAOFacade.removeWorkflow(workflow.getWorkflowId(), false);
+                } catch (Exception rwe) {
+                    LOGGER.error(
+                            "Could not remove the workflowId: " + workflow.getWorkflowId(), rwe);
+                }
+                bulkResponse.appendFailedResponse(String.valueOf(positions.get(i)), e.getMessage());
+            }
+            return bulkResponse;
+        }
+        for (WorkflowModel workflow : workflows) {
+            Monitors.recordWorkflowStartSuccess(
+                    workflow.getWorkflowName(),
+                    String.valueOf(workflow.getWorkflowVersion()),
+                    workflow.getOwnerApp());
+            bulkResponse.appendSuccessResponse(workflow.getWorkflowId());
+        }
+        return bulkResponse;
+    }
+
     private String startWorkflow(StartWorkflowInput input) {
         WorkflowDef workflowDefinition;
 
@@ -86,16 +176,47 @@ public class StartWorkflowOperation implements WorkflowOperation<StartWorkflowIn
 
         workflowDefinition = metadataMapperService.populateTaskDefinitions(workflowDefinition);
 
+        // Generate ID if it's not present
+        String workflowId =
+                Optional.ofNullable(input.getWorkflowId()).orElseGet(idGenerator::generate);
+
+        WorkflowModel workflow = newWorkflow(input, workflowDefinition, workflowId);
+
+        try {
+            createAndEvaluate(workflow);
+            Monitors.recordWorkflowStartSuccess(
+                    workflow.getWorkflowName(),
+                    String.valueOf(workflow.getWorkflowVersion()),
+                    workflow.getOwnerApp());
+            return workflowId;
+        } catch (Exception e) {
+            Monitors.recordWorkflowStartError(
+                    workflowDefinition.getName(), WorkflowContext.get().getClientApp());
+            LOGGER.error("Unable to start workflow: {}", workflowDefinition.getName(), e);
+
+            // It's possible the remove workflow call hits an exception as well, in that case we
+            // want to log both errors to help diagnosis.
+            try {
+                executionDAOFacade.removeWorkflow(workflowId, false);
+            } catch (Exception rwe) {
+                LOGGER.error("Could not remove the workflowId: " + workflowId, rwe);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates the input and builds the model of a new workflow, to be persisted.
+     *
+     * @throws IllegalArgumentException if the validation fails.
+     */
+    private WorkflowModel newWorkflow(
+            StartWorkflowInput input, WorkflowDef workflowDefinition, String workflowId) {
         // perform validations
         Map<String, Object> workflowInput = input.getWorkflowInput();
         String externalInputPayloadStoragePath = input.getExternalInputPayloadStoragePath();
         validateWorkflow(workflowDefinition, workflowInput, externalInputPayloadStoragePath);
 
-        // Generate ID if it's not present
-        String workflowId =
-                Optional.ofNullable(input.getWorkflowId()).orElseGet(idGenerator::generate);
-
-        // Persist the Workflow
         WorkflowModel workflow = new WorkflowModel();
         workflow.setWorkflowId(workflowId);
         workflow.setCorrelationId(input.getCorrelationId());
@@ -120,27 +241,7 @@ public class StartWorkflowOperation implements WorkflowOperation<StartWorkflowIn
             workflow.setExternalInputPayloadStoragePath(externalInputPayloadStoragePath);
         }
 
-        try {
-            createAndEvaluate(workflow);
-            Monitors.recordWorkflowStartSuccess(
-                    workflow.getWorkflowName(),
-                    String.valueOf(workflow.getWorkflowVersion()),
-                    workflow.getOwnerApp());
-            return workflowId;
-        } catch (Exception e) {
-            Monitors.recordWorkflowStartError(
-                    workflowDefinition.getName(), WorkflowContext.get().getClientApp());
-            LOGGER.error("Unable to start workflow: {}", workflowDefinition.getName(), e);
-
-            // It's possible the remove workflow call hits an exception as well, in that case we
-            // want to log both errors to help diagnosis.
-            try {
-                executionDAOFacade.removeWorkflow(workflowId, false);
-            } catch (Exception rwe) {
-                LOGGER.error("Could not remove the workflowId: " + workflowId, rwe);
-            }
-            throw e;
-        }
+        return workflow;
     }
 
     /*
@@ -14,6 +14,10 @@ package com.netflix.conductor.core.reconciliation;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +25,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.netflix.conductor.annotations.VisibleForTesting;
 import com.netflix.conductor.core.LifecycleAwareComponent;
 import com.netflix.conductor.core.config.ConductorProperties;
 import com.netflix.conductor.dao.QueueDAO;
@@ -31,6 +36,10 @@ import static com.netflix.conductor.core.utils.Utils.DECIDER_QUEUE;
 /**
  * Periodically polls all running workflows in the system and evaluates them for timeouts and/or
  * maintain consistency.
+ *
+ * <p>Up to one workflow per sweeper thread is swept at a time. A workflow is popped as soon as a
+ * sweep completes, so that a slow sweep does not hold back the others, until the decider queue has
+ * no workflow ready. Until then the decider queue depth is recorded once per poll timeout.
  */
 @Component
 @ConditionalOnProperty(
@@ -43,6 +52,12 @@ public class WorkflowReconciler extends LifecycleAwareComponent {
     private final QueueDAO queueDAO;
     private final int sweeperThreadCount;
     private final int sweeperWorkflowPollTimeout;
+    private final long sweeperWorkflowSweepTimeout;
+
+    /** The free places among the sweeps in flight. */
+    private final Semaphore sweepSlots;
+
+    private final AtomicInteger sweepsInFlight = new AtomicInteger();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowReconciler.class);
 
@@ -53,6 +68,8 @@ public class WorkflowReconciler extends LifecycleAwareComponent {
         this.sweeperThreadCount = properties.getSweeperThreadCount();
         this.sweeperWorkflowPollTimeout =
                 (int) properties.getSweeperWorkflowPollTimeout().toMillis();
+        this.sweeperWorkflowSweepTimeout = properties.getSweeperWorkflowSweepTimeout().toMillis();
+        this.sweepSlots = new Semaphore(sweeperThreadCount);
         LOGGER.info(
                 "WorkflowReconciler initialized with {} sweeper threads",
                 properties.getSweeperThreadCount());
@@ -66,19 +83,17 @@ public class WorkflowReconciler extends LifecycleAwareComponent {
             if (!isRunning()) {
                 LOGGER.debug("Component stopped, skip workflow sweep");
             } else {
-                List<String> workflowIds =
-                        queueDAO.pop(DECIDER_QUEUE, sweeperThreadCount, sweeperWorkflowPollTimeout);
-                if (workflowIds != null) {
-                    // wait for all workflow ids to be "swept"
-                    CompletableFuture.allOf(
-                                    workflowIds.stream()
-                                            .map(workflowSweeper::sweepAsync)
-                                            .toArray(CompletableFuture[]::new))
-                            .get();
-                    LOGGER.debug(
-                            "Sweeper processed {} from the decider queue",
-                            String.join(",", workflowIds));
-                }
+                // keep sweeping while the decider queue has workflows ready, the queue depth
+                // is still recorded once per poll timeout while it does not drain
+                long lastRecorded = System.currentTimeMillis();
+                int popped;
+                do {
+                    popped = pollAndSubmit();
+                    if (System.currentTimeMillis() - lastRecorded >= sweeperWorkflowPollTimeout) {
+                        recordQueueDepth();
+                        lastRecorded = System.currentTimeMillis();
+                    }
+                } while (popped > 0 && isRunning());
                 // NOTE: Disabling the sweeper implicitly disables this metric.
                 recordQueueDepth();
             }
@@ -92,6 +107,69 @@ public class WorkflowReconciler extends LifecycleAwareComponent {
         }
     }
 
+    /**
+     * Waits for a free place among the sweeps in flight, then pops as many workflows as there are
+     * free places and submits their sweeps.
+     *
+     * @return the number of workflows popped
+     */
+    @VisibleForTesting
+    int pollAndSubmit() throws InterruptedException {
+        if (!sweepSlots.tryAcquire(sweeperWorkflowPollTimeout, TimeUnit.MILLISECONDS)) {
+            return 0;
+        }
+        int slots = 1 + sweepSlots.drainPermits();
+        List<String> workflowIds;
+        try {
+            workflowIds = queueDAO.pop(DECIDER_QUEUE, slots, sweeperWorkflowPollTimeout);
+        } catch (RuntimeException e) {
+            sweepSlots.release(slots);
+            throw e;
+        }
+        int popped = workflowIds == null ? 0 : workflowIds.size();
+        sweepSlots.release(slots - popped);
+        if (popped > 0) {
+            workflowIds.forEach(this::submitSweep);
+            LOGGER.debug(
+                    "Sweeper submitted {} from the decider queue", String.join(",", workflowIds));
+        }
+        return popped;
+    }
+
+    private void submitSweep(String workflowId) {
+        long startTime = System.currentTimeMillis();
+        Monitors.recordWorkflowSweepsInFlight(sweepsInFlight.incrementAndGet());
+        CompletableFuture<Void> sweep;
+        try {
+            sweep = workflowSweeper.sweepAsync(workflowId);
+        } catch (RuntimeException e) {
+            sweep = CompletableFuture.failedFuture(e);
+        }
+        sweep.whenComplete(
+                (result, error) -> {
+                    sweepSlots.release();
+                    Monitors.recordWorkflowSweepsInFlight(sweepsInFlight.decrementAndGet());
+                    Monitors.recordWorkflowSweepTime(System.currentTimeMillis() - startTime);
+                    if (error != null) {
+                        Monitors.error(WorkflowReconciler.class.getSimpleName(), "sweep");
+                        LOGGER.error("Error sweeping workflow {}", workflowId, error);
+                    }
+                });
+        // a stalled sweep cannot be interrupted safely, it is reported instead
+        sweep.copy()
+                .orTimeout(sweeperWorkflowSweepTimeout, TimeUnit.MILLISECONDS)
+                .whenComplete(
+                        (result, error) -> {
+                            if (error instanceof TimeoutException) {
+                                Monitors.recordWorkflowSweepTimeout();
+                                LOGGER.warn(
+                                        "Sweep of workflow {} still running after {} ms",
+                                        workflowId,
+                                        sweeperWorkflowSweepTimeout);
+                            }
+                        });
+    }
+
     private void recordQueueDepth() {
         int currentQueueSize = queueDAO.getSize(DECIDER_QUEUE);
         Monitors.recordGauge(DECIDER_QUEUE, currentQueueSize);
@@ -12,9 +12,15 @@
  */
 package com.netflix.conductor.core.reconciliation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -109,7 +115,36 @@ public class WorkflowRepairService {
                                 () ->
                                         new NotFoundException(
                                                 "Could not find workflow: " + workflowId));
-        workflow.getTasks().forEach(this::verifyAndRepairTask);
+        verifyAndRepairWorkflowTasks(workflow);
+    }
+
+    /**
+     * Verify and repair tasks in a workflow already loaded with its tasks. The tasks of a queue are
+     * looked up in the queue together.
+     */
+    public void verifyAndRepairWorkflowTasks(WorkflowModel workflow) {
+        Map<String, List<TaskModel>> repairableTasksByQueue = new HashMap<>();
+        for (TaskModel task : workflow.getTasks()) {
+            if (isTaskRepairable.test(task)) {
+                repairableTasksByQueue
+                        .computeIfAbsent(QueueUtils.getQueueName(task), name -> new ArrayList<>())
+                        .add(task);
+            } else {
+                verifyAndRepairTask(task);
+            }
+        }
+        repairableTasksByQueue.forEach(
+                (taskQueueName, tasks) -> {
+                    Set<String> queuedTaskIds =
+                            queueDAO.containsMessages(
+                                    taskQueueName,
+                                    tasks.stream()
+                                            .map(TaskModel::getTaskId)
+                                            .collect(Collectors.toList()));
+                    tasks.stream()
+                            .filter(task -> !queuedTaskIds.contains(task.getTaskId()))
+                            .forEach(task -> requeueTask(taskQueueName, task));
+                });
         // repair the parent workflow if needed
         verifyAndRepairWorkflow(workflow.getParentWorkflowId());
     }
@@ -138,12 +173,7 @@ public class WorkflowRepairService {
             // Ensure QueueDAO contains this taskId
             String taskQueueName = QueueUtils.getQueueName(task);
             if (!queueDAO.containsMessage(taskQueueName, task.getTaskId())) {
-                queueDAO.push(taskQueueName, task.getTaskId(), task.getCallbackAfterSeconds());
-                LOGGER.info(
-                        "Task {} in workflow {} re-queued for repairs",
-                        task.getTaskId(),
-                        task.getWorkflowInstanceId());
-                Monitors.recordQueueMessageRepushFromRepairService(task.getTaskDefName());
+                requeueTask(taskQueueName, task);
                 return true;
             }
         } else if (task.getTaskType().equals(TaskType.TASK_TYPE_SUB_WORKFLOW)
@@ -162,6 +192,15 @@ public class WorkflowRepairService {
         return false;
     }
 
+    private void requeueTask(String taskQueueName, TaskModel task) {
+        queueDAO.push(taskQueueName, task.getTaskId(), task.getCallbackAfterSeconds());
+        LOGGER.info(
+                "Task {} in workflow {} re-queued for repairs",
+                task.getTaskId(),
+                task.getWorkflowInstanceId());
+        Monitors.recordQueueMessageRepushFromRepairService(task.getTaskDefName());
+    }
+
     private boolean verifyAndRepairWorkflow(String workflowId) {
         if (StringUtils.isNotEmpty(workflowId)) {
             String queueName = Utils.DECIDER_QUEUE;
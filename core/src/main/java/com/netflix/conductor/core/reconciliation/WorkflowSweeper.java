@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,11 +79,22 @@ public class WorkflowSweeper {
             LOGGER.debug("Running sweeper for workflow {}", workflowId);
 
             if (workflowRepairService != null) {
-                // Verify and repair tasks in the workflow.
-                workflowRepairService.verifyAndRepairWorkflowTasks(workflowId);
+                // Verify and repair tasks in the workflow, as loaded to be evaluated.
+                AtomicBoolean repaired = new AtomicBoolean(false);
+                workflow =
+                        workflowExecutor.decide(
+                                workflowId,
+                                loaded -> {
+                                    workflowRepairService.verifyAndRepairWorkflowTasks(loaded);
+                                    repaired.set(true);
+                                });
+                if (!repaired.get()) {
+                    // the workflow was not evaluated now (e.g. the lock is held elsewhere)
+                    workflowRepairService.verifyAndRepairWorkflowTasks(workflowId);
+                }
+            } else {
+                workflow = workflowExecutor.decide(workflowId);
             }
-
-            workflow = workflowExecutor.decide(workflowId);
             if (workflow != null && workflow.getStatus().isTerminal()) {
                 queueDAO.remove(DECIDER_QUEUE, workflowId);
                 return;
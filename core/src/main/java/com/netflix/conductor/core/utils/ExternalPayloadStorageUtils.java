@@ -14,12 +14,27 @@ package com.netflix.conductor.core.utils;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -37,6 +52,8 @@ import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.model.WorkflowModel;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 /** Provides utility functions to upload and download payloads to {@link ExternalPayloadStorage} */
 @Component
@@ -48,6 +65,15 @@ public class ExternalPayloadStorageUtils {
     private final ConductorProperties properties;
     private final ObjectMapper objectMapper;
 
+    /** The serialized payloads by path, null if disabled. They are parsed on every use. */
+    private final Cache<String, byte[]> payloadCache;
+
+    /**
+     * Runs the downloads a caller does not make itself. Unbounded, so that callers never wait for
+     * each other; each call bounds its own downloads instead.
+     */
+    private final ExecutorService downloadExecutor;
+
     public ExternalPayloadStorageUtils(
             ExternalPayloadStorage externalPayloadStorage,
             ConductorProperties properties,
@@ -55,6 +81,25 @@ public class ExternalPayloadStorageUtils {
         this.externalPayloadStorage = externalPayloadStorage;
         this.properties = properties;
         this.objectMapper = objectMapper;
+        long cacheSize = properties.getExternalPayloadCacheSize().toBytes();
+        this.payloadCache =
+                cacheSize > 0
+                        ? Caffeine.newBuilder()
+                                .maximumWeight(cacheSize)
+                                .<String, byte[]>weigher((path, payload) -> payload.length)
+                                .build()
+                        : null;
+        this.downloadExecutor =
+                Executors.newCachedThreadPool(
+                        new BasicThreadFactory.Builder()
+                                .namingPattern("external-payload-download-%d")
+                                .daemon(true)
+                                .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        downloadExecutor.shutdownNow();
     }
 
     /**
@@ -64,11 +109,86 @@ public class ExternalPayloadStorageUtils {
      * @return the payload object
      * @throws NonTransientException in case of JSON parsing errors or download errors
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> downloadPayload(String path) {
+        return parse(path, fetch(path));
+    }
+
+    /**
+     * Download the payloads from the given paths. The paths not found in the cache are downloaded
+     * concurrently, by the calling thread and up to {@link
+     * ConductorProperties#getExternalPayloadDownloadThreadCount()} - 1 helper threads; a single one
+     * is downloaded by the calling thread alone.
+     *
+     * @param paths the relative paths of the payloads in the {@link ExternalPayloadStorage}
+     * @return the payload objects by path
+     * @throws NonTransientException in case of JSON parsing errors or download errors
+     */
+    public Map<String, Map<String, Object>> downloadPayloads(Collection<String> paths) {
+        Map<String, byte[]> fetched = new ConcurrentHashMap<>();
+        Queue<String> missing = new ConcurrentLinkedQueue<>();
+        for (String path : new LinkedHashSet<>(paths)) {
+            byte[] payload = payloadCache != null ? payloadCache.getIfPresent(path) : null;
+            if (payload != null) {
+                fetched.put(path, payload);
+            } else {
+                missing.add(path);
+            }
+        }
+
+        int helpers =
+                Math.min(missing.size(), properties.getExternalPayloadDownloadThreadCount()) - 1;
+        Runnable fetchMissing =
+                () -> {
+                    String path;
+                    while ((path = missing.poll()) != null) {
+                        try {
+                            fetched.put(path, fetch(path));
+                        } catch (RuntimeException e) {
+                            // the whole call fails, so stop the other threads early
+                            missing.clear();
+                            throw e;
+                        }
+                    }
+                };
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
+        for (int i = 0; i < helpers; i++) {
+            downloads.add(CompletableFuture.runAsync(fetchMissing, downloadExecutor));
+        }
+        fetchMissing.run();
+        for (CompletableFuture<Void> download : downloads) {
+            try {
+                download.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        Map<String, Map<String, Object>> payloads = new HashMap<>();
+        fetched.forEach((path, payload) -> payloads.put(path, parse(path, payload)));
+        return payloads;
+    }
+
+    private byte[] fetch(String path) {
+        return payloadCache != null ? payloadCache.get(path, this::download) : download(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parse(String path, byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, Map.class);
+        } catch (Exception e) {
+            LOGGER.error("Unable to parse payload from external storage path: {}", path, e);
+            throw new NonTransientException(
+                    "Unable to download payload from external storage path: " + path, e);
+        }
+    }
+
+    private byte[] download(String path) {
         try (InputStream inputStream = externalPayloadStorage.download(path)) {
-            return objectMapper.readValue(
-                    IOUtils.toString(inputStream, StandardCharsets.UTF_8), Map.class);
+            return IOUtils.toByteArray(inputStream);
         } catch (TransientException te) {
             throw te;
         } catch (Exception e) {
@@ -122,18 +242,19 @@ public class ExternalPayloadStorageUtils {
                 break;
         }
 
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(byteArrayOutputStream, payload);
-            byte[] payloadBytes = byteArrayOutputStream.toByteArray();
-            long payloadSize = payloadBytes.length;
-
+        try {
             final long maxThresholdInBytes = maxThreshold * 1024;
-            if (payloadSize > maxThresholdInBytes) {
+            final long thresholdInBytes = threshold * 1024;
+            if (isWithinLimit(payload, thresholdInBytes)) {
+                return;
+            }
+
+            byte[] payloadBytes = toBytes(payload, maxThresholdInBytes);
+            if (payloadBytes == null) {
                 if (entity instanceof TaskModel) {
                     String errorMsg =
                             String.format(
-                                    "The payload size: %d of task: %s in workflow: %s  is greater than the permissible limit: %d bytes",
-                                    payloadSize,
+                                    "The payload size of task: %s in workflow: %s  is greater than the permissible limit: %d bytes",
                                     ((TaskModel) entity).getTaskId(),
                                     ((TaskModel) entity).getWorkflowInstanceId(),
                                     maxThresholdInBytes);
@@ -141,13 +262,12 @@ public class ExternalPayloadStorageUtils {
                 } else {
                     String errorMsg =
                             String.format(
-                                    "The payload size: %d of workflow: %s is greater than the permissible limit: %d bytes",
-                                    payloadSize,
-                                    ((WorkflowModel) entity).getWorkflowId(),
-                                    maxThresholdInBytes);
+                                    "The payload size of workflow: %s is greater than the permissible limit: %d bytes",
+                                    ((WorkflowModel) entity).getWorkflowId(), maxThresholdInBytes);
                     failWorkflow(((WorkflowModel) entity), payloadType, errorMsg);
                 }
-            } else if (payloadSize > threshold * 1024) {
+            } else {
+                long payloadSize = payloadBytes.length;
                 String externalInputPayloadStoragePath, externalOutputPayloadStoragePath;
                 switch (payloadType) {
                     case TASK_INPUT:
@@ -200,6 +320,42 @@ public class ExternalPayloadStorageUtils {
         }
     }
 
+    /**
+     * Counts the bytes of the serialized payload without keeping them, stopping once they go over
+     * the limit.
+     *
+     * @return true if the serialized payload is not larger than the limit
+     */
+    private boolean isWithinLimit(Map<String, Object> payload, long limit) throws IOException {
+        LimitedOutputStream outputStream = new LimitedOutputStream(limit, false);
+        try {
+            objectMapper.writeValue(outputStream, payload);
+        } catch (IOException e) {
+            if (!outputStream.isOverLimit()) {
+                throw e;
+            }
+        }
+        return !outputStream.isOverLimit();
+    }
+
+    /**
+     * Serializes the payload, stopping once it goes over the limit.
+     *
+     * @return the serialized payload, or null if it is larger than the limit
+     */
+    private byte[] toBytes(Map<String, Object> payload, long limit) throws IOException {
+        LimitedOutputStream outputStream = new LimitedOutputStream(limit, true);
+        try {
+            objectMapper.writeValue(outputStream, payload);
+        } catch (IOException e) {
+            if (!outputStream.isOverLimit()) {
+                throw e;
+            }
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+
     @VisibleForTesting
     String uploadHelper(
             byte[] payloadBytes, long payloadSize, ExternalPayloadStorage.PayloadType payloadType) {
@@ -208,6 +364,10 @@ public class ExternalPayloadStorageUtils {
                         ExternalPayloadStorage.Operation.WRITE, payloadType, "", payloadBytes);
         externalPayloadStorage.upload(
                 location.getPath(), new ByteArrayInputStream(payloadBytes), payloadSize);
+        if (payloadCache != null) {
+            // the payload is likely read back by the next evaluation of the workflow
+            payloadCache.put(location.getPath(), payloadBytes);
+        }
         return location.getPath();
     }
 
@@ -252,4 +412,52 @@ public class ExternalPayloadStorageUtils {
             }
         }
     }
+
+    /**
+     * Counts the bytes written, keeping them if asked to, and fails the writes once more than the
+     * limit were written.
+     */
+    private static class LimitedOutputStream extends OutputStream {
+
+        private final long limit;
+        private final ByteArrayOutputStream bytes;
+        private long count;
+
+        private LimitedOutputStream(long limit, boolean keepBytes) {
+            this.limit = limit;
+            this.bytes = keepBytes ? new ByteArrayOutputStream() : null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            count++;
+            checkLimit();
+            if (bytes != null) {
+                bytes.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            checkLimit();
+            if (bytes != null) {
+                bytes.write(b, off, len);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+
+        private boolean isOverLimit() {
+            return count > limit;
+        }
+
+        private void checkLimit() throws IOException {
+            if (isOverLimit()) {
+                throw new IOException("The payload is larger than " + limit + " bytes");
+            }
+        }
+    }
 }
@@ -12,13 +12,17 @@
  */
 package com.netflix.conductor.core.utils;
 
-import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -28,12 +32,12 @@ import org.springframework.stereotype.Component;
 import com.netflix.conductor.common.metadata.tasks.TaskDef;
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
 import com.netflix.conductor.common.utils.EnvUtils;
-import com.netflix.conductor.common.utils.TaskUtils;
 import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.model.WorkflowModel;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -45,8 +49,22 @@ public class ParametersUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ParametersUtils.class);
 
+    private static final Configuration CONFIGURATION =
+            Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
+
+    private static final Pattern VARIABLE_SPLIT_PATTERN =
+            Pattern.compile("(?=(?<!\\$)\\$\\{)|(?<=})");
+
+    /** Bounds the caches of parsed parameter strings and compiled JSONPath expressions. */
+    private static final int EXPRESSION_CACHE_SIZE = 10_000;
+
     private final ObjectMapper objectMapper;
-    private final TypeReference<Map<String, Object>> map = new TypeReference<>() {};
+
+    private final Cache<String, String[]> splitParameters =
+            Caffeine.newBuilder().maximumSize(EXPRESSION_CACHE_SIZE).build();
+
+    private final Cache<String, JsonPath> compiledPaths =
+            Caffeine.newBuilder().maximumSize(EXPRESSION_CACHE_SIZE).build();
 
     public ParametersUtils(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -79,8 +97,6 @@ public class ParametersUtils {
             clone(taskDefinition.getInputTemplate()).forEach(inputParams::putIfAbsent);
         }
 
-        Map<String, Map<String, Object>> inputMap = new HashMap<>();
-
         Map<String, Object> workflowParams = new HashMap<>();
         workflowParams.put("input", workflow.getInput());
         workflowParams.put("output", workflow.getOutput());
@@ -95,47 +111,12 @@ public class ParametersUtils {
         workflowParams.put("schemaVersion", workflow.getWorkflowDefinition().getSchemaVersion());
         workflowParams.put("variables", workflow.getVariables());
 
-        inputMap.put("workflow", workflowParams);
-
         // For new workflow being started the list of tasks will be empty
-        workflow.getTasks().stream()
-                .map(TaskModel::getReferenceTaskName)
-                .map(workflow::getTaskByRefName)
-                .forEach(
-                        task -> {
-                            Map<String, Object> taskParams = new HashMap<>();
-                            taskParams.put("input", task.getInputData());
-                            taskParams.put("output", task.getOutputData());
-                            taskParams.put("taskType", task.getTaskType());
-                            if (task.getStatus() != null) {
-                                taskParams.put("status", task.getStatus().toString());
-                            }
-                            taskParams.put("referenceTaskName", task.getReferenceTaskName());
-                            taskParams.put("retryCount", task.getRetryCount());
-                            taskParams.put("correlationId", task.getCorrelationId());
-                            taskParams.put("pollCount", task.getPollCount());
-                            taskParams.put("taskDefName", task.getTaskDefName());
-                            taskParams.put("scheduledTime", task.getScheduledTime());
-                            taskParams.put("startTime", task.getStartTime());
-                            taskParams.put("endTime", task.getEndTime());
-                            taskParams.put("workflowInstanceId", task.getWorkflowInstanceId());
-                            taskParams.put("taskId", task.getTaskId());
-                            taskParams.put(
-                                    "reasonForIncompletion", task.getReasonForIncompletion());
-                            taskParams.put("callbackAfterSeconds", task.getCallbackAfterSeconds());
-                            taskParams.put("workerId", task.getWorkerId());
-                            taskParams.put("iteration", task.getIteration());
-                            inputMap.put(
-                                    task.isLoopOverTask()
-                                            ? TaskUtils.removeIterationFromTaskRefName(
-                                                    task.getReferenceTaskName())
-                                            : task.getReferenceTaskName(),
-                                    taskParams);
-                        });
-
-        Configuration option =
-                Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
-        DocumentContext documentContext = JsonPath.parse(inputMap, option);
+        DocumentContext documentContext =
+                JsonPath.parse(
+                        new TaskParametersMap(
+                                workflowParams, workflow.getLatestTasksByBaseRefName()),
+                        CONFIGURATION);
         Map<String, Object> replacedTaskInput = replace(inputParams, documentContext, taskId);
         if (taskDefinition != null && taskDefinition.getInputTemplate() != null) {
             // If input for a given key resolves to null, try replacing it with one from
@@ -147,12 +128,35 @@ public class ParametersUtils {
         return replacedTaskInput;
     }
 
-    // deep clone using json - POJO
+    // deep clone of the JSON structure, only POJOs are converted using json
+    @SuppressWarnings("unchecked")
     private Map<String, Object> clone(Map<String, Object> inputTemplate) {
+        return (Map<String, Object>) deepCopy(inputTemplate);
+    }
+
+    private Object deepCopy(Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value)
+                    .forEach((key, element) -> copy.put(String.valueOf(key), deepCopy(element)));
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                copy.add(deepCopy(element));
+            }
+            return copy;
+        }
         try {
-            byte[] bytes = objectMapper.writeValueAsBytes(inputTemplate);
-            return objectMapper.readValue(bytes, map);
-        } catch (IOException e) {
+            return objectMapper.convertValue(value, Object.class);
+        } catch (IllegalArgumentException e) {
             throw new RuntimeException("Unable to clone input params", e);
         }
     }
@@ -164,16 +168,12 @@ public class ParametersUtils {
         } else {
             doc = json;
         }
-        Configuration option =
-                Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
-        DocumentContext documentContext = JsonPath.parse(doc, option);
+        DocumentContext documentContext = JsonPath.parse(doc, CONFIGURATION);
         return replace(input, documentContext, null);
     }
 
     public Object replace(String paramString) {
-        Configuration option =
-                Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS);
-        DocumentContext documentContext = JsonPath.parse(Collections.emptyMap(), option);
+        DocumentContext documentContext = JsonPath.parse(Collections.emptyMap(), CONFIGURATION);
         return replaceVariables(paramString, documentContext, null);
     }
 
@@ -221,7 +221,7 @@ public class ParametersUtils {
 
     private Object replaceVariables(
             String paramString, DocumentContext documentContext, String taskId) {
-        String[] values = paramString.split("(?=(?<!\\$)\\$\\{)|(?<=})");
+        String[] values = splitParameters.get(paramString, VARIABLE_SPLIT_PATTERN::split);
         Object[] convertedValues = new Object[values.length];
         for (int i = 0; i < values.length; i++) {
             convertedValues[i] = values[i];
@@ -241,7 +241,9 @@ public class ParametersUtils {
 
                 } else {
                     try {
-                        convertedValues[i] = documentContext.read(paramPath);
+                        convertedValues[i] =
+                                documentContext.read(
+                                        compiledPaths.get(paramPath, JsonPath::compile));
                     } catch (Exception e) {
                         LOGGER.warn(
                                 "Error reading documentContext for paramPath: {}. Exception: {}",
@@ -321,4 +323,69 @@ public class ParametersUtils {
         }
         return inputParams;
     }
+
+    /**
+     * The document that JSONPath expressions in task inputs are evaluated against: the workflow
+     * parameters under "workflow", and the parameters of each task under its reference name. The
+     * parameters of a task are only collected when an expression reads them, so that resolving an
+     * input does not cost more as the workflow accumulates tasks.
+     */
+    private static class TaskParametersMap extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> workflowParams;
+        private final Map<String, TaskModel> tasks;
+        private final Map<String, Map<String, Object>> taskParams = new HashMap<>();
+
+        TaskParametersMap(Map<String, Object> workflowParams, Map<String, TaskModel> tasks) {
+            this.workflowParams = workflowParams;
+            this.tasks = tasks;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return tasks.containsKey(key) || "workflow".equals(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            TaskModel task = tasks.get(key);
+            if (task != null) {
+                return taskParams.computeIfAbsent((String) key, k -> toTaskParams(task));
+            }
+            return "workflow".equals(key) ? workflowParams : null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> entries = new HashMap<>();
+            entries.put("workflow", workflowParams);
+            tasks.keySet().forEach(key -> entries.put(key, get(key)));
+            return entries.entrySet();
+        }
+
+        private static Map<String, Object> toTaskParams(TaskModel task) {
+            Map<String, Object> taskParams = new HashMap<>();
+            taskParams.put("input", task.getInputData());
+            taskParams.put("output", task.getOutputData());
+            taskParams.put("taskType", task.getTaskType());
+            if (task.getStatus() != null) {
+                taskParams.put("status", task.getStatus().toString());
+            }
+            taskParams.put("referenceTaskName", task.getReferenceTaskName());
+            taskParams.put("retryCount", task.getRetryCount());
+            taskParams.put("correlationId", task.getCorrelationId());
+            taskParams.put("pollCount", task.getPollCount());
+            taskParams.put("taskDefName", task.getTaskDefName());
+            taskParams.put("scheduledTime", task.getScheduledTime());
+            taskParams.put("startTime", task.getStartTime());
+            taskParams.put("endTime", task.getEndTime());
+            taskParams.put("workflowInstanceId", task.getWorkflowInstanceId());
+            taskParams.put("taskId", task.getTaskId());
+            taskParams.put("reasonForIncompletion", task.getReasonForIncompletion());
+            taskParams.put("callbackAfterSeconds", task.getCallbackAfterSeconds());
+            taskParams.put("workerId", task.getWorkerId());
+            taskParams.put("iteration", task.getIteration());
+            return taskParams;
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.core.utils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.netflix.conductor.annotations.VisibleForTesting;
+
+/**
+ * Creates the executors used by the system task workers, the workflow sweeper and the event
+ * processor.
+ *
+ * <p>By default these are fixed pools of platform threads. When virtual threads are enabled and the
+ * running JVM supports them, every submitted task gets its own virtual thread instead, and the
+ * configured thread count becomes the number of tasks allowed to run at the same time. The build
+ * targets Java 17, so virtual threads are only used on a Java 21+ runtime. The server images run
+ * Java 17 and keep the platform threads.
+ */
+public final class WorkerExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkerExecutors.class);
+
+    private WorkerExecutors() {}
+
+    /**
+     * @return {@code true} if the running JVM can create virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadSupport.SUPPORTED;
+    }
+
+    /**
+     * Creates an executor that runs at most {@code concurrency} tasks at a time.
+     *
+     * @param virtualThreadsEnabled whether to run the tasks on virtual threads, if supported
+     * @param concurrency the number of tasks that can run at the same time
+     * @param threadNameFormat the naming pattern of the platform threads
+     * @return the executor
+     */
+    public static ExecutorService newExecutor(
+            boolean virtualThreadsEnabled, int concurrency, String threadNameFormat) {
+        if (virtualThreadsEnabled) {
+            ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                return new BoundedExecutorService(virtualThreadExecutor, concurrency);
+            }
+            LOGGER.warn(
+                    "Virtual threads are not supported by this JVM, using {} platform threads for {}",
+                    concurrency,
+                    threadNameFormat);
+        }
+        return Executors.newFixedThreadPool(
+                concurrency,
+                new BasicThreadFactory.Builder().namingPattern(threadNameFormat).build());
+    }
+
+    /**
+     * @return a virtual thread per task executor, or null if the running JVM cannot run virtual
+     *     threads
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (!isVirtualThreadSupported()) {
+            return null;
+        }
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            LOGGER.warn("Unable to create a virtual thread executor", e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether virtual threads can actually be started. Java 19 and 20 have the executor factory,
+     * but it fails unless preview features are enabled, so a thread is started to find out.
+     */
+    private static class VirtualThreadSupport {
+
+        private static final boolean SUPPORTED = probe();
+
+        private static boolean probe() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                ExecutorService executor = (ExecutorService) factory.invoke(null);
+                try {
+                    executor.submit(() -> {}).get();
+                } finally {
+                    executor.shutdown();
+                }
+                return true;
+            } catch (Exception | LinkageError e) {
+                LOGGER.debug("Virtual threads are not available", e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Limits the number of tasks running on a delegate that does not bound its threads. A task
+     * waits for a permit on its own thread, which is cheap for a virtual thread, so submitting
+     * never blocks the caller.
+     */
+    @VisibleForTesting
+    static class BoundedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        BoundedExecutorService(ExecutorService delegate, int concurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(concurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(
+                    () -> {
+                        permits.acquireUninterruptibly();
+                        try {
+                            command.run();
+                        } finally {
+                            permits.release();
+                        }
+                    });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
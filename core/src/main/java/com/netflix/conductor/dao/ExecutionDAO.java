@@ -201,6 +201,27 @@ public interface ExecutionDAO {
      */
     boolean canSearchAcrossWorkflows();
 
+    // Batching
+
+    /**
+     * Starts collecting the writes issued by the calling thread, so that they can be sent to the
+     * datastore together. Reads on the same thread still observe the collected writes. The default
+     * implementation writes through immediately.
+     */
+    default void startBatch() {}
+
+    /** Sends the writes collected so far by the calling thread, and keeps collecting. */
+    default void flushBatch() {}
+
+    /** Sends the writes collected by the calling thread, and stops collecting. */
+    default void endBatch() {}
+
+    /**
+     * Drops the writes collected by the calling thread since they were last sent, and stops
+     * collecting.
+     */
+    default void discardBatch() {}
+
     // Events
 
     /**
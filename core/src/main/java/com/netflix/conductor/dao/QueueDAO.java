@@ -14,6 +14,8 @@ package com.netflix.conductor.dao;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.netflix.conductor.core.events.queue.Message;
 
@@ -99,6 +101,17 @@ public interface QueueDAO {
      */
     boolean ack(String queueName, String messageId);
 
+    /**
+     * Acknowledges several messages of a queue at once. The default implementation acknowledges
+     * them one by one.
+     *
+     * @param queueName Name of the queue
+     * @param messageIds Message ids
+     */
+    default void ack(String queueName, List<String> messageIds) {
+        messageIds.forEach(messageId -> ack(queueName, messageId));
+    }
+
     /**
      * Extend the lease of the unacknowledged message for longer period.
      *
@@ -164,4 +177,17 @@ public interface QueueDAO {
         throw new UnsupportedOperationException(
                 "Please ensure your provided Queue implementation overrides and implements this method.");
     }
+
+    /**
+     * Check which of the messages with the given messageIds exist in the Queue.
+     *
+     * @param queueName name of the queue
+     * @param messageIds ids of the messages
+     * @return the ids of the messages that exist in the queue
+     */
+    default Set<String> containsMessages(String queueName, List<String> messageIds) {
+        return messageIds.stream()
+                .filter(messageId -> containsMessage(queueName, messageId))
+                .collect(Collectors.toSet());
+    }
 }
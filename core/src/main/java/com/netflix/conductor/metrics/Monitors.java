@@ -391,6 +391,18 @@ public class Monitors {
                 .record(duration, TimeUnit.MILLISECONDS);
     }
 
+    public static void recordWorkflowSweepsInFlight(int count) {
+        gauge(classQualifier, "workflow_sweeps_in_flight", count);
+    }
+
+    public static void recordWorkflowSweepTime(long duration) {
+        getTimer(classQualifier, "workflow_sweep").record(duration, TimeUnit.MILLISECONDS);
+    }
+
+    public static void recordWorkflowSweepTimeout() {
+        counter(classQualifier, "workflow_sweep_timeout");
+    }
+
     public static void recordUnackTime(String workflowType, long duration) {
         getTimer(classQualifier, "workflow_unack", "workflowName", workflowType)
                 .record(duration, TimeUnit.MILLISECONDS);
@@ -420,14 +432,32 @@ public class Monitors {
         counter(classQualifier, "observable_queue_error", "queueType", queueType);
     }
 
-    public static void recordEventQueueMessagesHandled(String queueType, String queueName) {
-        counter(
-                classQualifier,
-                "event_queue_messages_handled",
-                "queueType",
-                queueType,
-                "queueName",
-                queueName);
+    public static void recordEventQueueMessagesHandled(
+            String queueType, String queueName, int count) {
+        getCounter(
+                        classQualifier,
+                        "event_queue_messages_handled",
+                        "queueType",
+                        queueType,
+                        "queueName",
+                        queueName)
+                .increment(count);
+    }
+
+    /**
+     * Records the time taken to handle a message of an event queue, from its receipt to its ack,
+     * nack or re-publish.
+     */
+    public static void recordEventQueueMessageLatency(
+            String queueType, String queueName, long duration) {
+        getTimer(
+                        classQualifier,
+                        "event_queue_message_latency",
+                        "queueType",
+                        queueType,
+                        "queueName",
+                        queueName)
+                .record(duration, TimeUnit.MILLISECONDS);
     }
 
     public static void recordEventQueueMessagesError(String queueType, String queueName) {
@@ -527,6 +557,39 @@ public class Monitors {
                 payloadType);
     }
 
+    public static void recordDaoBatchFlush(String dao, int commands, long duration) {
+        distributionSummary(classQualifier, "dao_batch_commands", commands, "dao", dao);
+        getTimer(classQualifier, "dao_batch_flush", "dao", dao)
+                .record(duration, TimeUnit.MILLISECONDS);
+    }
+
+    public static void recordHttpRequestTime(String host, long duration) {
+        getTimer(
+                        classQualifier,
+                        "http_request",
+                        "host",
+                        StringUtils.defaultIfBlank(host, "unknown"))
+                .record(duration, TimeUnit.MILLISECONDS);
+    }
+
+    public static void recordHttpConnectionPool(long leased, long available, long pending) {
+        gauge(classQualifier, "http_connection_pool", leased, "state", "leased");
+        gauge(classQualifier, "http_connection_pool", available, "state", "available");
+        gauge(classQualifier, "http_connection_pool", pending, "state", "pending");
+    }
+
+    public static void recordCacheHit(String cacheName) {
+        counter(classQualifier, "cache_hit", "cacheName", cacheName);
+    }
+
+    public static void recordCacheMiss(String cacheName) {
+        counter(classQualifier, "cache_miss", "cacheName", cacheName);
+    }
+
+    public static void recordScriptCacheEviction() {
+        counter(classQualifier, "script_cache_eviction");
+    }
+
     public static void recordDaoError(String dao, String action) {
         counter(classQualifier, "dao_errors", "dao", dao, "action", action);
     }
@@ -578,6 +641,14 @@ public class Monitors {
         counter(classQualifier, "system_task_worker_polling_limited", "queueName", queueName);
     }
 
+    public static void recordSystemTaskWorkerEmptyPoll(String queueName) {
+        counter(classQualifier, "system_task_worker_empty_poll", "queueName", queueName);
+    }
+
+    public static void recordSystemTaskWorkerPollInterval(String queueName, long interval) {
+        gauge(classQualifier, "system_task_worker_poll_interval", interval, "queueName", queueName);
+    }
+
     public static void recordEventQueuePollSize(String queueType, int val) {
         gauge(Monitors.classQualifier, "event_queue_poll", val, "queueType", queueType);
     }
@@ -19,7 +19,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.BeanUtils;
 
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
 import com.netflix.conductor.common.run.Workflow;
+import com.netflix.conductor.common.utils.TaskUtils;
 import com.netflix.conductor.core.utils.Utils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -117,6 +119,15 @@ public class WorkflowModel {
 
     @JsonIgnore private Map<String, Object> outputPayload = new HashMap<>();
 
+    @JsonIgnore private transient TaskIndex taskIndex;
+
+    /**
+     * A snapshot of the tasks of {@link #workflowDefinition} by reference name, taken on the first
+     * lookup. The definition of a workflow is not changed in place once the workflow is created; it
+     * is replaced with {@link #setWorkflowDefinition(WorkflowDef)}, which drops the snapshot.
+     */
+    @JsonIgnore private transient Map<String, WorkflowTask> workflowTasksByRefName;
+
     public Status getPreviousStatus() {
         return previousStatus;
     }
@@ -325,6 +336,24 @@ public class WorkflowModel {
 
     public void setWorkflowDefinition(WorkflowDef workflowDefinition) {
         this.workflowDefinition = workflowDefinition;
+        this.workflowTasksByRefName = null;
+    }
+
+    /**
+     * @param taskReferenceName the reference name of a task of the workflow definition
+     * @return the task of the workflow definition, or <code>null</code> if there is none, e.g. for
+     *     the iterations of a loop and dynamically forked tasks
+     */
+    public WorkflowTask getWorkflowTask(String taskReferenceName) {
+        Map<String, WorkflowTask> tasksByRefName = workflowTasksByRefName;
+        if (tasksByRefName == null) {
+            tasksByRefName = new HashMap<>();
+            for (WorkflowTask workflowTask : workflowDefinition.collectTasks()) {
+                tasksByRefName.putIfAbsent(workflowTask.getTaskReferenceName(), workflowTask);
+            }
+            workflowTasksByRefName = tasksByRefName;
+        }
+        return tasksByRefName.get(taskReferenceName);
     }
 
     public String getExternalInputPayloadStoragePath() {
@@ -457,24 +486,106 @@ public class WorkflowModel {
             throw new RuntimeException(
                     "refName passed is null.  Check the workflow execution.  For dynamic tasks, make sure referenceTaskName is set to a not null value");
         }
-        LinkedList<TaskModel> found = new LinkedList<>();
-        for (TaskModel task : tasks) {
-            if (task.getReferenceTaskName() == null) {
-                throw new RuntimeException(
-                        "Task "
-                                + task.getTaskDefName()
-                                + ", seq="
-                                + task.getSeq()
-                                + " does not have reference name specified.");
+        TaskModel task = getTaskIndex().tasksByRefName.get(refName);
+        if (task != null && !refName.equals(task.getReferenceTaskName())) {
+            // the reference name was changed after the index was built
+            taskIndex = null;
+            task = getTaskIndex().tasksByRefName.get(refName);
+        }
+        return task;
+    }
+
+    /**
+     * @param taskId the id of the task
+     * @return the task of this workflow with the given id, or <code>null</code> if there is none
+     */
+    public TaskModel getTaskById(String taskId) {
+        TaskModel task = getTaskIndex().tasksById.get(taskId);
+        if (task != null && !task.getTaskId().equals(taskId)) {
+            taskIndex = null;
+            task = getTaskIndex().tasksById.get(taskId);
+        }
+        return task;
+    }
+
+    /**
+     * @return the latest task per reference name, where tasks inside a DO_WHILE loop are keyed by
+     *     their reference name without the iteration suffix
+     */
+    @JsonIgnore
+    public Map<String, TaskModel> getLatestTasksByBaseRefName() {
+        return getTaskIndex().getTasksByBaseRefName();
+    }
+
+    private TaskIndex getTaskIndex() {
+        if (taskIndex == null || !taskIndex.isValidFor(tasks)) {
+            taskIndex = new TaskIndex(tasks);
+        }
+        return taskIndex;
+    }
+
+    /**
+     * Lookup maps over {@link #tasks}, so that finding a task does not scan the whole list. The
+     * list is exposed and mutated directly by its callers, hence the index remembers the list, its
+     * size and its first and last elements, and is rebuilt as soon as any of them changes. The
+     * reference name of a task is expected to be set before the task is added to the list.
+     */
+    private static class TaskIndex {
+
+        private final List<TaskModel> tasks;
+        private final int size;
+        private final TaskModel first;
+        private final TaskModel last;
+        private final Map<String, TaskModel> tasksByRefName;
+        private final Map<String, TaskModel> tasksById;
+        private Map<String, TaskModel> tasksByBaseRefName;
+
+        TaskIndex(List<TaskModel> tasks) {
+            this.tasks = tasks;
+            this.size = tasks.size();
+            this.first = size == 0 ? null : tasks.get(0);
+            this.last = size == 0 ? null : tasks.get(size - 1);
+            this.tasksByRefName = new HashMap<>(size * 2);
+            this.tasksById = new HashMap<>(size * 2);
+            for (TaskModel task : tasks) {
+                if (task.getReferenceTaskName() == null) {
+                    throw new RuntimeException(
+                            "Task "
+                                    + task.getTaskDefName()
+                                    + ", seq="
+                                    + task.getSeq()
+                                    + " does not have reference name specified.");
+                }
+                // the latest task wins, e.g. the last retry of a task
+                tasksByRefName.put(task.getReferenceTaskName(), task);
+                if (task.getTaskId() != null) {
+                    tasksById.putIfAbsent(task.getTaskId(), task);
+                }
             }
-            if (task.getReferenceTaskName().equals(refName)) {
-                found.add(task);
+        }
+
+        Map<String, TaskModel> getTasksByBaseRefName() {
+            if (tasksByBaseRefName == null) {
+                Map<String, TaskModel> byBaseRefName = new HashMap<>(size * 2);
+                for (TaskModel task : tasks) {
+                    byBaseRefName.put(
+                            task.isLoopOverTask()
+                                    ? TaskUtils.removeIterationFromTaskRefName(
+                                            task.getReferenceTaskName())
+                                    : task.getReferenceTaskName(),
+                            tasksByRefName.get(task.getReferenceTaskName()));
+                }
+                tasksByBaseRefName = Collections.unmodifiableMap(byBaseRefName);
             }
+            return tasksByBaseRefName;
         }
-        if (found.isEmpty()) {
-            return null;
+
+        boolean isValidFor(List<TaskModel> tasks) {
+            if (this.tasks != tasks || size != tasks.size()) {
+                return false;
+            }
+            return size == 0 || (tasks.get(0) == first && tasks.get(size - 1) == last);
         }
-        return found.getLast();
     }
 
     public void externalizeInput(String path) {
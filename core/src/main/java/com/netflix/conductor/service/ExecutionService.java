@@ -115,76 +115,140 @@ public class ExecutionService {
             Monitors.recordTaskPollError(taskType, domain, e.getClass().getSimpleName());
         }
 
-        for (String taskId : taskIds) {
-            try {
-                TaskModel taskModel = executionDAOFacade.getTaskModel(taskId);
-                if (taskModel == null || taskModel.getStatus().isTerminal()) {
-                    // Remove taskId(s) without a valid Task/terminal state task from the queue
-                    queueDAO.remove(queueName, taskId);
-                    LOGGER.debug("Removed task: {} from the queue: {}", taskId, queueName);
-                    continue;
-                }
+        if (taskIds.isEmpty()) {
+            executionDAOFacade.updateTaskLastPoll(taskType, domain, workerId);
+            Monitors.recordTaskPoll(queueName);
+            return tasks;
+        }
 
-                if (executionDAOFacade.exceedsInProgressLimit(taskModel)) {
-                    // Postpone this message, so that it would be available for poll again.
-                    queueDAO.postpone(
-                            queueName,
-                            taskId,
-                            taskModel.getWorkflowPriority(),
-                            queueTaskMessagePostponeSecs);
-                    LOGGER.debug(
-                            "Postponed task: {} in queue: {} by {} seconds",
-                            taskId,
-                            queueName,
-                            queueTaskMessagePostponeSecs);
-                    continue;
-                }
-                TaskDef taskDef =
-                        taskModel.getTaskDefinition().isPresent()
-                                ? taskModel.getTaskDefinition().get()
-                                : null;
-                if (taskModel.getRateLimitPerFrequency() > 0
-                        && executionDAOFacade.exceedsRateLimitPerFrequency(taskModel, taskDef)) {
-                    // Postpone this message, so that it would be available for poll again.
-                    queueDAO.postpone(
-                            queueName,
-                            taskId,
-                            taskModel.getWorkflowPriority(),
-                            queueTaskMessagePostponeSecs);
-                    LOGGER.debug(
-                            "RateLimit Execution limited for {}:{}, limit:{}",
-                            taskId,
-                            taskModel.getTaskDefName(),
-                            taskModel.getRateLimitPerFrequency());
-                    continue;
-                }
+        Map<String, TaskModel> taskModels;
+        try {
+            taskModels =
+                    executionDAOFacade.getTaskModels(taskIds).stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            TaskModel::getTaskId,
+                                            taskModel -> taskModel,
+                                            (first, second) -> first));
+        } catch (Exception e) {
+            // db operation failed for dequeued messages, re-enqueue them with a delay
+            LOGGER.warn("DB operation failed for tasks: {}, postponing tasks in queue", taskIds, e);
+            Monitors.recordTaskPollError(taskType, domain, e.getClass().getSimpleName());
+            taskIds.forEach(
+                    taskId ->
+                            queueDAO.postpone(queueName, taskId, 0, queueTaskMessagePostponeSecs));
+            return tasks;
+        }
 
-                taskModel.setStatus(TaskModel.Status.IN_PROGRESS);
-                if (taskModel.getStartTime() == 0) {
-                    taskModel.setStartTime(System.currentTimeMillis());
-                    Monitors.recordQueueWaitTime(
-                            taskModel.getTaskDefName(), taskModel.getQueueWaitTime());
+        List<TaskModel> polledTasks = new ArrayList<>();
+        // the in progress updates of the polled tasks are sent to the datastore together
+        executionDAOFacade.startUnitOfWork();
+        boolean stored = false;
+        try {
+            for (String taskId : taskIds) {
+                try {
+                    TaskModel taskModel = taskModels.get(taskId);
+                    if (taskModel == null || taskModel.getStatus().isTerminal()) {
+                        // Remove taskId(s) without a valid Task/terminal state task from the queue
+                        queueDAO.remove(queueName, taskId);
+                        LOGGER.debug("Removed task: {} from the queue: {}", taskId, queueName);
+                        continue;
+                    }
+
+                    if (executionDAOFacade.exceedsInProgressLimit(taskModel)) {
+                        // Postpone this message, so that it would be available for poll again.
+                        queueDAO.postpone(
+                                queueName,
+                                taskId,
+                                taskModel.getWorkflowPriority(),
+                                queueTaskMessagePostponeSecs);
+                        LOGGER.debug(
+                                "Postponed task: {} in queue: {} by {} seconds",
+                                taskId,
+                                queueName,
+                                queueTaskMessagePostponeSecs);
+                        continue;
+                    }
+                    TaskDef taskDef =
+                            taskModel.getTaskDefinition().isPresent()
+                                    ? taskModel.getTaskDefinition().get()
+                                    : null;
+                    if (taskModel.getRateLimitPerFrequency() > 0
+                            && executionDAOFacade.exceedsRateLimitPerFrequency(
+                                    taskModel, taskDef)) {
+                        // Postpone this message, so that it would be available for poll again.
+                        queueDAO.postpone(
+                                queueName,
+                                taskId,
+                                taskModel.getWorkflowPriority(),
+                                queueTaskMessagePostponeSecs);
+                        LOGGER.debug(
+                                "RateLimit Execution limited for {}:{}, limit:{}",
+                                taskId,
+                                taskModel.getTaskDefName(),
+                                taskModel.getRateLimitPerFrequency());
+                        continue;
+                    }
+
+                    taskModel.setStatus(TaskModel.Status.IN_PROGRESS);
+                    if (taskModel.getStartTime() == 0) {
+                        taskModel.setStartTime(System.currentTimeMillis());
+                        Monitors.recordQueueWaitTime(
+                                taskModel.getTaskDefName(), taskModel.getQueueWaitTime());
+                    }
+                    taskModel.setCallbackAfterSeconds(
+                            0); // reset callbackAfterSeconds when giving the task to the worker
+                    taskModel.setWorkerId(workerId);
+                    taskModel.incrementPollCount();
+                    executionDAOFacade.updateTask(taskModel);
+                    polledTasks.add(taskModel);
+                } catch (Exception e) {
+                    // db operation failed for dequeued message, re-enqueue with a delay
+                    LOGGER.warn(
+                            "DB operation failed for task: {}, postponing task in queue",
+                            taskId,
+                            e);
+                    Monitors.recordTaskPollError(taskType, domain, e.getClass().getSimpleName());
+                    queueDAO.postpone(queueName, taskId, 0, queueTaskMessagePostponeSecs);
                 }
-                taskModel.setCallbackAfterSeconds(
-                        0); // reset callbackAfterSeconds when giving the task to the worker
-                taskModel.setWorkerId(workerId);
-                taskModel.incrementPollCount();
-                executionDAOFacade.updateTask(taskModel);
-                tasks.add(taskModel.toTask());
-            } catch (Exception e) {
-                // db operation failed for dequeued message, re-enqueue with a delay
-                LOGGER.warn(
-                        "DB operation failed for task: {}, postponing task in queue", taskId, e);
-                Monitors.recordTaskPollError(taskType, domain, e.getClass().getSimpleName());
-                queueDAO.postpone(queueName, taskId, 0, queueTaskMessagePostponeSecs);
             }
+            executionDAOFacade.flushUnitOfWork();
+            stored = true;
+        } catch (Exception e) {
+            // the in progress updates were not stored, re-enqueue the tasks with a delay
+            LOGGER.warn(
+                    "DB operation failed for tasks polled from: {}, postponing tasks in queue",
+                    queueName,
+                    e);
+            Monitors.recordTaskPollError(taskType, domain, e.getClass().getSimpleName());
+            polledTasks.forEach(
+                    taskModel ->
+                            queueDAO.postpone(
+                                    queueName,
+                                    taskModel.getTaskId(),
+                                    0,
+                                    queueTaskMessagePostponeSecs));
+            polledTasks.clear();
+        } finally {
+            executionDAOFacade.endUnitOfWork(stored);
         }
+        polledTasks.forEach(taskModel -> tasks.add(taskModel.toTask()));
+
         executionDAOFacade.updateTaskLastPoll(taskType, domain, workerId);
         Monitors.recordTaskPoll(queueName);
-        tasks.forEach(this::ackTaskReceived);
+        ackTasksReceived(tasks);
         return tasks;
     }
 
+    private void ackTasksReceived(List<Task> tasks) {
+        tasks.stream()
+                .collect(
+                        Collectors.groupingBy(
+                                QueueUtils::getQueueName,
+                                Collectors.mapping(Task::getTaskId, Collectors.toList())))
+                .forEach(queueDAO::ack);
+    }
+
     public Task getLastPollTask(String taskType, String workerId, String domain) {
         List<Task> tasks = poll(taskType, workerId, domain, POLL_COUNT_ONE, POLLING_TIMEOUT_IN_MS);
         if (tasks.isEmpty()) {
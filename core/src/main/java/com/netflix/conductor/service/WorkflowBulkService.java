@@ -14,11 +14,13 @@ package com.netflix.conductor.service;
 
 import java.util.List;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Size;
 
 import org.springframework.validation.annotation.Validated;
 
+import com.netflix.conductor.common.metadata.workflow.StartWorkflowRequest;
 import com.netflix.conductor.common.model.BulkResponse;
 
 @Validated
@@ -26,6 +28,15 @@ public interface WorkflowBulkService {
 
     int MAX_REQUEST_ITEMS = 1000;
 
+    BulkResponse startWorkflows(
+            @NotEmpty(message = "StartWorkflowRequest list cannot be null.")
+                    @Size(
+                            max = MAX_REQUEST_ITEMS,
+                            message =
+                                    "Cannot process more than {max} workflows. Please use multiple requests.")
+                    @Valid
+                    List<StartWorkflowRequest> startWorkflowRequests);
+
     BulkResponse pauseWorkflow(
             @NotEmpty(message = "WorkflowIds list cannot be null.")
                     @Size(
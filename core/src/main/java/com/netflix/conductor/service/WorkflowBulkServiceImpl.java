@@ -13,6 +13,7 @@
 package com.netflix.conductor.service;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +21,11 @@ import org.springframework.stereotype.Service;
 
 import com.netflix.conductor.annotations.Audit;
 import com.netflix.conductor.annotations.Trace;
+import com.netflix.conductor.common.metadata.workflow.StartWorkflowRequest;
 import com.netflix.conductor.common.model.BulkResponse;
+import com.netflix.conductor.core.execution.StartWorkflowInput;
 import com.netflix.conductor.core.execution.WorkflowExecutor;
+import com.netflix.conductor.core.operation.StartWorkflowOperation;
 
 @Audit
 @Trace
@@ -30,9 +34,27 @@ public class WorkflowBulkServiceImpl implements WorkflowBulkService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowBulkService.class);
     private final WorkflowExecutor workflowExecutor;
+    private final StartWorkflowOperation startWorkflowOperation;
 
-    public WorkflowBulkServiceImpl(WorkflowExecutor workflowExecutor) {
+    public WorkflowBulkServiceImpl(
+            WorkflowExecutor workflowExecutor, StartWorkflowOperation startWorkflowOperation) {
         this.workflowExecutor = workflowExecutor;
+        this.startWorkflowOperation = startWorkflowOperation;
+    }
+
+    /**
+     * Start the list of workflows. The workflows are created together and evaluated asynchronously,
+     * once picked from the decider queue.
+     *
+     * @param startWorkflowRequests - list of requests of the workflows to start
+     * @return bulk response object containing a list of the ids of the started workflows and a list
+     *     of failed ones, keyed by their position in the request list, with errors
+     */
+    public BulkResponse startWorkflows(List<StartWorkflowRequest> startWorkflowRequests) {
+        return startWorkflowOperation.startWorkflows(
+                startWorkflowRequests.stream()
+                        .map(StartWorkflowInput::new)
+                        .collect(Collectors.toList()));
     }
 
     /**
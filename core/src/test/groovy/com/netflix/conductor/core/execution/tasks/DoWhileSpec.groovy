@@ -15,6 +15,7 @@ package com.netflix.conductor.core.execution.tasks
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef
 import com.netflix.conductor.common.metadata.workflow.WorkflowTask
 import com.netflix.conductor.common.utils.TaskUtils
+import com.netflix.conductor.core.dal.ExecutionDAOFacade
 import com.netflix.conductor.core.exception.TerminateWorkflowException
 import com.netflix.conductor.core.execution.WorkflowExecutor
 import com.netflix.conductor.core.utils.ParametersUtils
@@ -34,6 +35,7 @@ class DoWhileSpec extends Specification {
     DoWhile doWhile
 
     WorkflowExecutor workflowExecutor
+    ExecutionDAOFacade executionDAOFacade
     ObjectMapper objectMapper
     ParametersUtils parametersUtils
     TaskModel doWhileTaskModel
@@ -44,12 +46,13 @@ class DoWhileSpec extends Specification {
     def setup() {
         objectMapper = new ObjectMapper();
         workflowExecutor = Mock(WorkflowExecutor.class)
+        executionDAOFacade = Mock(ExecutionDAOFacade.class)
         parametersUtils = new ParametersUtils(objectMapper)
 
         task1 = new WorkflowTask(name: 'task1', taskReferenceName: 'task1')
         task2 = new WorkflowTask(name: 'task2', taskReferenceName: 'task2')
 
-        doWhile = new DoWhile(parametersUtils)
+        doWhile = new DoWhile(parametersUtils, executionDAOFacade)
     }
 
     def "first iteration"() {
@@ -316,6 +319,46 @@ class DoWhileSpec extends Specification {
         0 * workflowExecutor.scheduleNextIteration(doWhileTaskModel, workflowModel)
     }
 
+    def "next iteration - only the last iterations are kept when keepLastN is set"() {
+        given: "WorkflowModel consists of two iterations of tasks inside DO_WHILE already completed"
+        def iteration1Tasks = [createTaskModel(task1), createTaskModel(task2)]
+        taskModel1 = createTaskModel(task1, TaskModel.Status.COMPLETED, 2)
+        taskModel2 = createTaskModel(task2, TaskModel.Status.COMPLETED, 2)
+
+        WorkflowTask doWhileWorkflowTask = new WorkflowTask(taskReferenceName: 'doWhileTask', type: TASK_TYPE_DO_WHILE)
+        doWhileWorkflowTask.loopCondition = "if (\$.doWhileTask['iteration'] < 3) { true; } else { false; }"
+        doWhileWorkflowTask.loopOver = [task1, task2]
+
+        doWhileTaskModel = new TaskModel(workflowTask: doWhileWorkflowTask, taskId: UUID.randomUUID().toString(),
+                taskType: TASK_TYPE_DO_WHILE, referenceTaskName: doWhileWorkflowTask.taskReferenceName)
+        doWhileTaskModel.inputData[DoWhile.KEEP_LAST_N] = 1
+        doWhileTaskModel.iteration = 2
+        doWhileTaskModel.outputData['iteration'] = 2
+        doWhileTaskModel.outputData['1'] = [:]
+        doWhileTaskModel.status = TaskModel.Status.IN_PROGRESS
+
+        def workflowModel = new WorkflowModel(workflowDefinition: new WorkflowDef(name: 'test_workflow'))
+        // setup the WorkflowModel
+        workflowModel.tasks = [doWhileTaskModel] + iteration1Tasks + [taskModel1, taskModel2]
+
+        when:
+        def retVal = doWhile.execute(workflowModel, doWhileTaskModel, workflowExecutor)
+
+        then: "verify that the return value is true, since the iteration is updated"
+        retVal
+
+        and: "verify that the tasks and the output of the first iteration are removed"
+        workflowModel.tasks == [doWhileTaskModel, taskModel1, taskModel2]
+        1 * executionDAOFacade.removeTask(workflowModel, iteration1Tasks[0])
+        1 * executionDAOFacade.removeTask(workflowModel, iteration1Tasks[1])
+        !doWhileTaskModel.outputData.containsKey('1')
+        doWhileTaskModel.outputData.containsKey('2')
+
+        and: "verify whether the next iteration is scheduled"
+        doWhileTaskModel.iteration == 3
+        1 * workflowExecutor.scheduleNextIteration(doWhileTaskModel, workflowModel)
+    }
+
     def "cancel sets the status as CANCELED"() {
         given:
         doWhileTaskModel = new TaskModel(taskId: UUID.randomUUID().toString(),
@@ -16,6 +16,7 @@ import org.springframework.context.ApplicationEventPublisher
 
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef
 import com.netflix.conductor.core.dal.ExecutionDAOFacade
+import com.netflix.conductor.core.exception.NotFoundException
 import com.netflix.conductor.core.execution.StartWorkflowInput
 import com.netflix.conductor.core.metadata.MetadataMapperService
 import com.netflix.conductor.core.utils.IDGenerator
@@ -66,4 +67,31 @@ class StartWorkflowOperationSpec extends Specification {
         1 * executionDAOFacade.createWorkflow(_)
         1 * eventPublisher.publishEvent(_)
     }
+
+    def "bulk start workflows"() {
+        given:
+        def workflowDef = new WorkflowDef(name: 'test', version: 1)
+        def inputs = [
+                new StartWorkflowInput(name: 'test', version: 1, workflowInput: [:]),
+                new StartWorkflowInput(name: 'missing', workflowInput: [:]),
+                new StartWorkflowInput(name: 'test', version: 1, workflowInput: [:]),
+                new StartWorkflowInput(name: 'missing', workflowInput: [:])
+        ]
+
+        when:
+        def bulkResponse = startWorkflowOperation.startWorkflows(inputs)
+
+        then:
+        1 * metadataMapperService.lookupForWorkflowDefinition('test', 1) >> workflowDef
+        1 * metadataMapperService.lookupForWorkflowDefinition('missing', null) >> {
+            throw new NotFoundException('No such workflow')
+        }
+        1 * metadataMapperService.populateTaskDefinitions(workflowDef) >> workflowDef
+        2 * idGenerator.generate() >>> ['id1', 'id2']
+        1 * executionDAOFacade.createWorkflows({ it*.workflowId == ['id1', 'id2'] })
+        0 * executionLockService.acquireLock(_)
+        0 * eventPublisher.publishEvent(_)
+        bulkResponse.bulkSuccessfulResults == ['id1', 'id2']
+        bulkResponse.bulkErrorResults == ['1': 'No such workflow', '3': 'No such workflow']
+    }
 }
@@ -22,12 +22,14 @@ import org.apache.commons.io.IOUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.netflix.conductor.common.config.TestObjectMapperConfiguration;
 import com.netflix.conductor.common.metadata.events.EventExecution;
+import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
 import com.netflix.conductor.common.run.SearchResult;
 import com.netflix.conductor.common.run.Workflow;
 import com.netflix.conductor.common.utils.ExternalPayloadStorage;
@@ -41,6 +43,8 @@ import com.netflix.conductor.model.WorkflowModel;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import static com.netflix.conductor.core.utils.Utils.DECIDER_QUEUE;
+
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -50,6 +54,7 @@ import static org.mockito.Mockito.*;
 public class ExecutionDAOFacadeTest {
 
     private ExecutionDAO executionDAO;
+    private QueueDAO queueDAO;
     private IndexDAO indexDAO;
     private ExecutionDAOFacade executionDAOFacade;
     private ExternalPayloadStorageUtils externalPayloadStorageUtils;
@@ -59,7 +64,7 @@ public class ExecutionDAOFacadeTest {
     @Before
     public void setUp() {
         executionDAO = mock(ExecutionDAO.class);
-        QueueDAO queueDAO = mock(QueueDAO.class);
+        queueDAO = mock(QueueDAO.class);
         indexDAO = mock(IndexDAO.class);
         externalPayloadStorageUtils = mock(ExternalPayloadStorageUtils.class);
         RateLimitingDAO rateLimitingDao = mock(RateLimitingDAO.class);
@@ -198,4 +203,70 @@ public class ExecutionDAOFacadeTest {
 
         executionDAOFacade.updateTask(task);
     }
+
+    @Test
+    public void testNestedUnitOfWork() {
+        executionDAOFacade.flushUnitOfWork();
+        verify(executionDAO, never()).flushBatch();
+
+        executionDAOFacade.startUnitOfWork();
+        executionDAOFacade.startUnitOfWork();
+        executionDAOFacade.flushUnitOfWork();
+        executionDAOFacade.endUnitOfWork();
+        verify(executionDAO, times(1)).startBatch();
+        verify(executionDAO, times(1)).flushBatch();
+        verify(executionDAO, never()).endBatch();
+
+        executionDAOFacade.endUnitOfWork();
+        verify(executionDAO, times(1)).endBatch();
+
+        executionDAOFacade.flushUnitOfWork();
+        verify(executionDAO, times(1)).flushBatch();
+    }
+
+    @Test
+    public void testFailedUnitOfWorkIsDiscarded() {
+        executionDAOFacade.startUnitOfWork();
+        executionDAOFacade.startUnitOfWork();
+        executionDAOFacade.endUnitOfWork(false);
+        verify(executionDAO, never()).discardBatch();
+
+        executionDAOFacade.endUnitOfWork(false);
+        verify(executionDAO, times(1)).discardBatch();
+        verify(executionDAO, never()).endBatch();
+
+        executionDAOFacade.flushUnitOfWork();
+        verify(executionDAO, never()).flushBatch();
+    }
+
+    @Test
+    public void testCreateWorkflows() {
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setName("test");
+        WorkflowModel first = new WorkflowModel();
+        first.setWorkflowId("workflow1");
+        first.setWorkflowDefinition(workflowDef);
+        WorkflowModel second = new WorkflowModel();
+        second.setWorkflowId("workflow2");
+        second.setWorkflowDefinition(workflowDef);
+        second.setPriority(5);
+
+        executionDAOFacade.createWorkflows(List.of(first, second));
+
+        InOrder inOrder = inOrder(executionDAO, queueDAO);
+        inOrder.verify(executionDAO).startBatch();
+        inOrder.verify(executionDAO).createWorkflow(first);
+        inOrder.verify(executionDAO).createWorkflow(second);
+        inOrder.verify(executionDAO).flushBatch();
+        inOrder.verify(executionDAO).endBatch();
+        inOrder.verify(queueDAO)
+                .push(
+                        eq(DECIDER_QUEUE),
+                        argThat(
+                                messages ->
+                                        messages.size() == 2
+                                                && messages.get(0).getId().equals("workflow1")
+                                                && messages.get(1).getPriority() == 5));
+        verify(indexDAO, times(2)).asyncIndexWorkflow(any());
+    }
 }
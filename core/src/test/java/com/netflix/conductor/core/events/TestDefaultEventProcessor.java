@@ -13,6 +13,8 @@
 package com.netflix.conductor.core.events;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -439,6 +441,94 @@ public class TestDefaultEventProcessor {
         verify(queue, never()).publish(any());
     }
 
+    @Test
+    public void testEventHandlersExecutedConcurrently() {
+        List<EventHandler> eventHandlers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            EventHandler eventHandler = new EventHandler();
+            eventHandler.setName("handler" + i);
+            eventHandler.setActive(true);
+            eventHandler.setEvent(event);
+            Action completeTaskAction = new Action();
+            completeTaskAction.setAction(Type.complete_task);
+            completeTaskAction.setComplete_task(new TaskDetails());
+            eventHandler.getActions().add(completeTaskAction);
+            eventHandlers.add(eventHandler);
+        }
+
+        when(metadataService.getEventHandlersForEvent(event, true)).thenReturn(eventHandlers);
+        when(executionService.addEventExecution(any())).thenReturn(true);
+        // each action waits for the other one, which only succeeds if both run at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        when(actionProcessor.execute(any(), any(), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            latch.countDown();
+                            if (!latch.await(5, TimeUnit.SECONDS)) {
+                                throw new IllegalStateException("actions executed serially");
+                            }
+                            return new HashMap<>();
+                        });
+
+        DefaultEventProcessor eventProcessor =
+                new DefaultEventProcessor(
+                        executionService,
+                        metadataService,
+                        actionProcessor,
+                        jsonUtils,
+                        properties,
+                        objectMapper,
+                        evaluators,
+                        retryTemplate);
+        eventProcessor.handle(queue, message);
+        verify(executionService, times(2))
+                .updateEventExecution(
+                        argThat(
+                                eventExecution ->
+                                        eventExecution.getStatus()
+                                                == EventExecution.Status.COMPLETED));
+        verify(queue, times(1)).ack(Collections.singletonList(message));
+    }
+
+    @Test
+    public void testHandleBatch() {
+        EventHandler eventHandler = new EventHandler();
+        eventHandler.setName(UUID.randomUUID().toString());
+        eventHandler.setActive(true);
+        eventHandler.setEvent(event);
+        Action completeTaskAction = new Action();
+        completeTaskAction.setAction(Type.complete_task);
+        completeTaskAction.setComplete_task(new TaskDetails());
+        eventHandler.getActions().add(completeTaskAction);
+
+        when(queue.rePublishIfNoAck()).thenReturn(false);
+        when(metadataService.getEventHandlersForEvent(event, true))
+                .thenReturn(Collections.singletonList(eventHandler));
+        when(executionService.addEventExecution(any())).thenReturn(true);
+        when(actionProcessor.execute(any(), any(), any(), eq("t1"))).thenReturn(new HashMap<>());
+        when(actionProcessor.execute(any(), any(), any(), eq("t2")))
+                .thenThrow(new TransientException("some retriable error"));
+        when(actionProcessor.execute(any(), any(), any(), eq("t3"))).thenReturn(new HashMap<>());
+        Message first = new Message("t1", "{}", "t1");
+        Message second = new Message("t2", "{}", "t2");
+        Message third = new Message("t3", "{}", "t3");
+
+        DefaultEventProcessor eventProcessor =
+                new DefaultEventProcessor(
+                        executionService,
+                        metadataService,
+                        actionProcessor,
+                        jsonUtils,
+                        properties,
+                        objectMapper,
+                        evaluators,
+                        retryTemplate);
+        eventProcessor.handle(queue, List.of(first, second, third));
+        verify(queue, times(1)).ack(List.of(first, third));
+        verify(queue, times(1)).publish(List.of(second));
+        verify(queue, never()).nack(any());
+    }
+
     @Test
     public void testExecuteInvalidAction() {
         AtomicInteger executeInvoked = new AtomicInteger(0);
@@ -12,11 +12,17 @@
  */
 package com.netflix.conductor.core.events;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -44,4 +50,23 @@ public class TestScriptEval {
         assertTrue(ScriptEvaluator.evalBool(script3, payload));
         assertFalse(ScriptEvaluator.evalBool(script4, payload));
     }
+
+    @Test
+    public void testCompiledScriptIsEvaluatedAgainstEachInput() throws Exception {
+        String script = "$.value * 2";
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("value", i);
+                results.add(executorService.submit(() -> ScriptEvaluator.eval(script, payload)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i * 2, ((Number) results.get(i).get()).intValue());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -46,6 +46,7 @@ import com.netflix.conductor.core.event.WorkflowCreationEvent;
 import com.netflix.conductor.core.exception.ConflictException;
 import com.netflix.conductor.core.exception.NotFoundException;
 import com.netflix.conductor.core.exception.TerminateWorkflowException;
+import com.netflix.conductor.core.exception.TransientException;
 import com.netflix.conductor.core.execution.evaluators.Evaluator;
 import com.netflix.conductor.core.execution.mapper.*;
 import com.netflix.conductor.core.execution.tasks.*;
@@ -165,6 +166,7 @@ public class TestWorkflowExecutor {
         taskStatusListener = mock(TaskStatusListener.class);
         externalPayloadStorageUtils = mock(ExternalPayloadStorageUtils.class);
         executionLockService = mock(ExecutionLockService.class);
+        when(executionLockService.acquireLock(anyString(), anyLong())).thenReturn(true);
         eventPublisher = mock(ApplicationEventPublisher.class);
 
         ParametersUtils parametersUtils = new ParametersUtils(objectMapper);
@@ -2029,6 +2031,18 @@ public class TestWorkflowExecutor {
         verify(queueDAO, times(1)).remove(anyString(), anyString());
     }
 
+    @Test
+    public void testPauseWorkflowWithoutLock() {
+        when(executionLockService.acquireLock(anyString(), anyLong())).thenReturn(false);
+        try {
+            workflowExecutor.pauseWorkflow("testPauseWorkflowId");
+            fail("Expected " + TransientException.class);
+        } catch (TransientException e) {
+            verify(executionDAOFacade, never()).updateWorkflow(any(WorkflowModel.class));
+            verify(executionLockService, never()).releaseLock(anyString());
+        }
+    }
+
     @Test
     public void testResumeWorkflow() {
         String workflowId = "testResumeWorkflowId";
@@ -13,6 +13,7 @@
 package com.netflix.conductor.core.execution.tasks;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -28,6 +29,7 @@ import com.netflix.conductor.dao.QueueDAO;
 import com.netflix.conductor.service.ExecutionService;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -60,6 +62,7 @@ public class TestSystemTaskWorker {
         when(properties.getIsolatedSystemTaskWorkerThreadCount()).thenReturn(10);
         when(properties.getSystemTaskWorkerCallbackDuration()).thenReturn(Duration.ofSeconds(30));
         when(properties.getSystemTaskWorkerPollInterval()).thenReturn(Duration.ofSeconds(30));
+        when(properties.getSystemTaskWorkerMaxPollInterval()).thenReturn(Duration.ofSeconds(60));
 
         systemTaskWorker =
                 new SystemTaskWorker(
@@ -175,6 +178,72 @@ public class TestSystemTaskWorker {
         verify(asyncSystemTaskExecutor, Mockito.never()).execute(any(), anyString());
     }
 
+    @Test
+    public void testEmptyQueueIsPolledLessOften() throws Exception {
+        when(properties.getSystemTaskWorkerPollInterval()).thenReturn(Duration.ofMillis(1));
+        systemTaskWorker =
+                new SystemTaskWorker(
+                        queueDAO, asyncSystemTaskExecutor, properties, executionService);
+        systemTaskWorker.start();
+
+        when(queueDAO.pop(eq(TEST_TASK), anyInt(), anyInt())).thenReturn(Collections.emptyList());
+        when(queueDAO.pop(eq(ISOLATED_TASK), anyInt(), anyInt()))
+                .thenReturn(List.of("isolated_taskId"));
+        systemTaskWorker.addPolledQueue(new TestTask(), TEST_TASK);
+        systemTaskWorker.addPolledQueue(new IsolatedTask(), ISOLATED_TASK);
+
+        int runs = 100;
+        for (int i = 0; i < runs; i++) {
+            systemTaskWorker.pollQueues();
+            Thread.sleep(1);
+        }
+
+        // the empty queue backs off, doubling its interval from 1ms, while the other queue
+        // keeps being polled at the base interval
+        long emptyQueuePolls = countPops(TEST_TASK);
+        long busyQueuePolls = countPops(ISOLATED_TASK);
+        assertTrue(emptyQueuePolls >= 2);
+        assertTrue(emptyQueuePolls <= 12);
+        assertTrue(busyQueuePolls > runs / 2);
+    }
+
+    @Test
+    public void testBusiestQueueIsPolledFirst() throws Exception {
+        when(properties.getSystemTaskWorkerPollInterval()).thenReturn(Duration.ofMillis(1));
+        systemTaskWorker =
+                new SystemTaskWorker(
+                        queueDAO, asyncSystemTaskExecutor, properties, executionService);
+        systemTaskWorker.start();
+
+        List<String> polledQueues = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            String queueName = invocation.getArgument(0);
+                            polledQueues.add(queueName);
+                            return ISOLATED_TASK.equals(queueName)
+                                    ? List.of("isolated_taskId")
+                                    : Collections.emptyList();
+                        })
+                .when(queueDAO)
+                .pop(anyString(), anyInt(), anyInt());
+        systemTaskWorker.addPolledQueue(new TestTask(), TEST_TASK);
+        systemTaskWorker.addPolledQueue(new IsolatedTask(), ISOLATED_TASK);
+
+        systemTaskWorker.pollQueues();
+        Thread.sleep(10);
+        systemTaskWorker.pollQueues();
+
+        assertEquals(4, polledQueues.size());
+        assertEquals(List.of(ISOLATED_TASK, TEST_TASK), polledQueues.subList(2, 4));
+    }
+
+    private long countPops(String queueName) {
+        return Mockito.mockingDetails(queueDAO).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("pop"))
+                .filter(invocation -> queueName.equals(invocation.getArgument(0)))
+                .count();
+    }
+
     static class TestTask extends WorkflowSystemTask {
         public TestTask() {
             super(TEST_TASK);
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.core.reconciliation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.netflix.conductor.core.config.ConductorProperties;
+import com.netflix.conductor.dao.QueueDAO;
+
+import static com.netflix.conductor.core.utils.Utils.DECIDER_QUEUE;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestWorkflowReconciler {
+
+    private WorkflowSweeper workflowSweeper;
+    private QueueDAO queueDAO;
+    private WorkflowReconciler workflowReconciler;
+
+    @Before
+    public void setUp() {
+        ConductorProperties properties = mock(ConductorProperties.class);
+        when(properties.getSweeperThreadCount()).thenReturn(2);
+        when(properties.getSweeperWorkflowPollTimeout()).thenReturn(Duration.ofMillis(10));
+        when(properties.getSweeperWorkflowSweepTimeout()).thenReturn(Duration.ofSeconds(60));
+        workflowSweeper = mock(WorkflowSweeper.class);
+        queueDAO = mock(QueueDAO.class);
+        workflowReconciler = new WorkflowReconciler(workflowSweeper, queueDAO, properties);
+    }
+
+    @Test
+    public void testSlowSweepHoldsOnlyItsPlace() throws Exception {
+        CompletableFuture<Void> slowSweep = new CompletableFuture<>();
+        when(workflowSweeper.sweepAsync("workflow1")).thenReturn(slowSweep);
+        when(workflowSweeper.sweepAsync("workflow2"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(workflowSweeper.sweepAsync("workflow3"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(queueDAO.pop(DECIDER_QUEUE, 2, 10)).thenReturn(List.of("workflow1", "workflow2"));
+        when(queueDAO.pop(DECIDER_QUEUE, 1, 10))
+                .thenReturn(List.of("workflow3"))
+                .thenReturn(Collections.emptyList());
+
+        assertEquals(2, workflowReconciler.pollAndSubmit());
+        // workflow2 is swept, workflow1 is not
+        assertEquals(1, workflowReconciler.pollAndSubmit());
+        assertEquals(0, workflowReconciler.pollAndSubmit());
+        verify(workflowSweeper).sweepAsync("workflow3");
+
+        slowSweep.complete(null);
+        when(queueDAO.pop(DECIDER_QUEUE, 2, 10)).thenReturn(Collections.emptyList());
+        assertEquals(0, workflowReconciler.pollAndSubmit());
+        verify(queueDAO, times(2)).pop(DECIDER_QUEUE, 2, 10);
+    }
+
+    @Test
+    public void testQueueDepthIsRecordedUnderSustainedLoad() {
+        when(workflowSweeper.sweepAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        AtomicInteger pops = new AtomicInteger();
+        when(queueDAO.pop(eq(DECIDER_QUEUE), anyInt(), anyInt()))
+                .thenAnswer(
+                        invocation -> {
+                            Thread.sleep(5);
+                            int count = pops.incrementAndGet();
+                            if (count == 20) {
+                                // the queue never drains, only a stop ends the run
+                                workflowReconciler.stop();
+                            }
+                            return List.of("workflow" + count);
+                        });
+        workflowReconciler.start();
+
+        workflowReconciler.pollAndSweep();
+
+        assertEquals(20, pops.get());
+        // once per poll timeout while sweeping, and once when the run ends
+        verify(queueDAO, atLeast(3)).getSize(DECIDER_QUEUE);
+    }
+}
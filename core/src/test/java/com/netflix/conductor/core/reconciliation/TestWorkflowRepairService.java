@@ -14,7 +14,9 @@ package com.netflix.conductor.core.reconciliation;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import static com.netflix.conductor.common.metadata.tasks.TaskType.*;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -231,6 +234,29 @@ public class TestWorkflowRepairService {
         verify(queueDAO, times(1)).push(anyString(), anyString(), anyLong());
     }
 
+    @Test
+    public void verifyAndRepairLoadedWorkflowChecksQueueOnce() {
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setWorkflowId("abcd");
+        for (String taskId : List.of("task1", "task2")) {
+            TaskModel task = new TaskModel();
+            task.setTaskType("SIMPLE");
+            task.setTaskDefName("simple");
+            task.setStatus(TaskModel.Status.SCHEDULED);
+            task.setTaskId(taskId);
+            workflow.getTasks().add(task);
+        }
+
+        when(queueDAO.containsMessages("SIMPLE", List.of("task1", "task2")))
+                .thenReturn(Set.of("task1"));
+
+        workflowRepairService.verifyAndRepairWorkflowTasks(workflow);
+        verify(queueDAO, never()).containsMessage(anyString(), anyString());
+        verify(queueDAO, never()).push("SIMPLE", "task1", 0);
+        verify(queueDAO, times(1)).push("SIMPLE", "task2", 0);
+        verify(executionDAO, never()).getWorkflow(anyString(), anyBoolean());
+    }
+
     @Test
     public void assertInProgressSubWorkflowSystemTasksAreCheckedAndRepaired() {
         String subWorkflowId = "subWorkflowId";
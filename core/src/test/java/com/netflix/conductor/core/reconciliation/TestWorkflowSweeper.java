@@ -15,6 +15,7 @@ package com.netflix.conductor.core.reconciliation;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -32,7 +33,10 @@ import com.netflix.conductor.model.WorkflowModel;
 import static com.netflix.conductor.core.utils.Utils.DECIDER_QUEUE;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -325,4 +329,39 @@ public class TestWorkflowSweeper {
             assertTrue(offsetWithJitter <= 60);
         }
     }
+
+    @Test
+    public void testRepairWhenWorkflowIsNotEvaluated() {
+        when(properties.getWorkflowOffsetTimeout())
+                .thenReturn(Duration.ofSeconds(defaultPostPoneOffSetSeconds));
+        // the decide lock is not acquired
+        when(workflowExecutor.decide(eq("1"), any())).thenReturn(null);
+
+        workflowSweeper.sweep("1");
+        verify(workflowRepairService).verifyAndRepairWorkflowTasks("1");
+    }
+
+    @Test
+    public void testRepairWorkflowAsLoadedToBeEvaluated() {
+        WorkflowModel workflowModel = new WorkflowModel();
+        workflowModel.setWorkflowId("1");
+        workflowModel.setStatus(WorkflowModel.Status.RUNNING);
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setName("test");
+        workflowModel.setWorkflowDefinition(workflowDef);
+        when(properties.getWorkflowOffsetTimeout())
+                .thenReturn(Duration.ofSeconds(defaultPostPoneOffSetSeconds));
+        when(workflowExecutor.decide(eq("1"), any()))
+                .thenAnswer(
+                        invocation -> {
+                            invocation
+                                    .<Consumer<WorkflowModel>>getArgument(1)
+                                    .accept(workflowModel);
+                            return workflowModel;
+                        });
+
+        workflowSweeper.sweep("1");
+        verify(workflowRepairService).verifyAndRepairWorkflowTasks(workflowModel);
+        verify(workflowRepairService, never()).verifyAndRepairWorkflowTasks("1");
+    }
 }
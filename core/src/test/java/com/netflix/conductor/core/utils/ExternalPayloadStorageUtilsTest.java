@@ -15,7 +15,9 @@ package com.netflix.conductor.core.utils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -35,6 +37,7 @@ import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
 import com.netflix.conductor.common.run.ExternalStorageLocation;
 import com.netflix.conductor.common.utils.ExternalPayloadStorage;
 import com.netflix.conductor.core.config.ConductorProperties;
+import com.netflix.conductor.core.exception.NonTransientException;
 import com.netflix.conductor.core.exception.TerminateWorkflowException;
 import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.model.WorkflowModel;
@@ -82,6 +85,8 @@ public class ExternalPayloadStorageUtilsTest {
         when(properties.getTaskOutputPayloadSizeThreshold()).thenReturn(DataSize.ofKilobytes(10L));
         when(properties.getMaxTaskOutputPayloadSizeThreshold())
                 .thenReturn(DataSize.ofKilobytes(10240L));
+        when(properties.getExternalPayloadCacheSize()).thenReturn(DataSize.ofMegabytes(1L));
+        when(properties.getExternalPayloadDownloadThreadCount()).thenReturn(2);
 
         externalPayloadStorageUtils =
                 new ExternalPayloadStorageUtils(externalPayloadStorage, properties, objectMapper);
@@ -103,6 +108,102 @@ public class ExternalPayloadStorageUtilsTest {
         assertEquals(payload, result);
     }
 
+    @Test
+    public void testDownloadedPayloadIsReused() throws IOException {
+        String path = "test/payload";
+        byte[] payloadBytes = objectMapper.writeValueAsBytes(Map.of("key1", "value1"));
+        when(externalPayloadStorage.download(path))
+                .thenReturn(new ByteArrayInputStream(payloadBytes));
+
+        Map<String, Object> first = externalPayloadStorageUtils.downloadPayload(path);
+        first.put("key2", "changed");
+        Map<String, Object> second = externalPayloadStorageUtils.downloadPayload(path);
+
+        assertEquals(Map.of("key1", "value1"), second);
+        verify(externalPayloadStorage, times(1)).download(path);
+    }
+
+    @Test
+    public void testDownloadPayloads() throws IOException {
+        when(externalPayloadStorage.download("path1"))
+                .thenReturn(
+                        new ByteArrayInputStream(
+                                objectMapper.writeValueAsBytes(Map.of("key", "value1"))));
+        when(externalPayloadStorage.download("path2"))
+                .thenReturn(
+                        new ByteArrayInputStream(
+                                objectMapper.writeValueAsBytes(Map.of("key", "value2"))));
+
+        Map<String, Map<String, Object>> payloads =
+                externalPayloadStorageUtils.downloadPayloads(List.of("path1", "path2", "path1"));
+
+        assertEquals(2, payloads.size());
+        assertEquals("value1", payloads.get("path1").get("key"));
+        assertEquals("value2", payloads.get("path2").get("key"));
+        verify(externalPayloadStorage, times(1)).download("path1");
+    }
+
+    @Test
+    public void testDownloadPayloadsSingleMissOnCallingThread() throws IOException {
+        when(externalPayloadStorage.download("path1"))
+                .thenReturn(
+                        new ByteArrayInputStream(
+                                objectMapper.writeValueAsBytes(Map.of("key", "value1"))));
+        externalPayloadStorageUtils.downloadPayload("path1");
+        List<Thread> downloadThreads = new ArrayList<>();
+        when(externalPayloadStorage.download("path2"))
+                .thenAnswer(
+                        invocation -> {
+                            downloadThreads.add(Thread.currentThread());
+                            return new ByteArrayInputStream(
+                                    objectMapper.writeValueAsBytes(Map.of("key", "value2")));
+                        });
+
+        Map<String, Map<String, Object>> payloads =
+                externalPayloadStorageUtils.downloadPayloads(List.of("path1", "path2"));
+
+        assertEquals("value1", payloads.get("path1").get("key"));
+        assertEquals("value2", payloads.get("path2").get("key"));
+        assertEquals(List.of(Thread.currentThread()), downloadThreads);
+        verify(externalPayloadStorage, times(1)).download("path1");
+    }
+
+    @Test
+    public void testDownloadPayloadsBoundsConcurrentDownloads() throws IOException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(externalPayloadStorage.download(anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.sleep(20);
+                            running.decrementAndGet();
+                            return new ByteArrayInputStream(
+                                    objectMapper.writeValueAsBytes(
+                                            Map.of("key", invocation.getArgument(0))));
+                        });
+        List<String> paths = List.of("path1", "path2", "path3", "path4", "path5", "path6");
+
+        Map<String, Map<String, Object>> payloads =
+                externalPayloadStorageUtils.downloadPayloads(paths);
+
+        assertEquals(paths.size(), payloads.size());
+        paths.forEach(path -> assertEquals(path, payloads.get(path).get("key")));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testDownloadPayloadsFailure() throws IOException {
+        when(externalPayloadStorage.download("path1"))
+                .thenReturn(
+                        new ByteArrayInputStream(
+                                objectMapper.writeValueAsBytes(Map.of("key", "value1"))));
+        when(externalPayloadStorage.download("path2")).thenThrow(new IllegalStateException());
+
+        expectedException.expect(NonTransientException.class);
+        externalPayloadStorageUtils.downloadPayloads(List.of("path1", "path2"));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testUploadTaskPayload() throws IOException {
@@ -138,6 +239,39 @@ public class ExternalPayloadStorageUtilsTest {
         assertNotNull(task.getExternalInputPayloadStoragePath());
     }
 
+    @Test
+    public void testChangedPayloadIsVerifiedAgain() {
+        when(externalPayloadStorage.getLocation(any(), any(), anyString(), any(byte[].class)))
+                .thenReturn(location);
+
+        TaskModel task = new TaskModel();
+        task.setInputData(new HashMap<>(Map.of("key", "value")));
+        externalPayloadStorageUtils.verifyAndUpload(
+                task, ExternalPayloadStorage.PayloadType.TASK_INPUT);
+        externalPayloadStorageUtils.verifyAndUpload(
+                task, ExternalPayloadStorage.PayloadType.TASK_INPUT);
+        assertNull(task.getExternalInputPayloadStoragePath());
+
+        task.getInputData().put("large", "x".repeat(20 * 1024));
+        externalPayloadStorageUtils.verifyAndUpload(
+                task, ExternalPayloadStorage.PayloadType.TASK_INPUT);
+        assertEquals("some/test/path", task.getExternalInputPayloadStoragePath());
+        verify(externalPayloadStorage, times(1)).upload(anyString(), any(), anyLong());
+    }
+
+    @Test
+    public void testPayloadOverMaxThresholdFailsTask() {
+        TaskModel task = new TaskModel();
+        task.setTaskId("taskId");
+        task.setOutputData(new HashMap<>(Map.of("large", "x".repeat(10241 * 1024))));
+        externalPayloadStorageUtils.verifyAndUpload(
+                task, ExternalPayloadStorage.PayloadType.TASK_OUTPUT);
+
+        assertEquals(TaskModel.Status.FAILED_WITH_TERMINAL_ERROR, task.getStatus());
+        assertTrue(task.getOutputData().isEmpty());
+        verify(externalPayloadStorage, never()).upload(anyString(), any(), anyLong());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testUploadWorkflowPayload() throws IOException {
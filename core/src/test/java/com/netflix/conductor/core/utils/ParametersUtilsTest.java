@@ -32,6 +32,8 @@ import org.springframework.test.context.junit4.SpringRunner;
 
 import com.netflix.conductor.common.config.TestObjectMapperConfiguration;
 import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.model.TaskModel;
+import com.netflix.conductor.model.WorkflowModel;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -327,4 +329,51 @@ public class ParametersUtilsTest {
                 parametersUtils.getWorkflowInput(workflowDef, inputParams);
         assertEquals("supplied_value", workflowInput.get(keyName));
     }
+
+    @Test
+    public void testGetTaskInputV2ResolvesLatestTasks() {
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setSchemaVersion(2);
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setWorkflowDefinition(workflowDef);
+        workflow.getTasks().add(createTask("t1", "simple", 0, Map.of("value", "first")));
+        workflow.getTasks().add(createTask("t2", "simple", 0, Map.of("value", "retried")));
+        workflow.getTasks().add(createTask("t3", "loop__1", 1, Map.of("value", "iteration1")));
+        workflow.getTasks().add(createTask("t4", "loop__2", 2, Map.of("value", "iteration2")));
+
+        Map<String, Object> input = new HashMap<>();
+        input.put("simple", "${simple.output.value}");
+        input.put("loop", "${loop.output.value}");
+        input.put("status", "${loop.status}");
+        input.put("values", "${$..value}");
+        input.put("missing", "${missing.output.value}");
+        input.put("nested", List.of(Map.of("id", "${simple.taskId}")));
+
+        Map<String, Object> taskInput =
+                parametersUtils.getTaskInputV2(input, workflow, "taskId", null);
+
+        assertEquals("retried", taskInput.get("simple"));
+        assertEquals("iteration2", taskInput.get("loop"));
+        assertEquals("COMPLETED", taskInput.get("status"));
+        assertEquals(2, ((List) taskInput.get("values")).size());
+        assertNull(taskInput.get("missing"));
+        assertEquals("t2", ((Map) ((List) taskInput.get("nested")).get(0)).get("id"));
+        assertEquals("${simple.taskId}", ((Map) ((List) input.get("nested")).get(0)).get("id"));
+
+        // the resolution follows the tasks added afterwards
+        workflow.getTasks().add(createTask("t5", "simple", 0, Map.of("value", "latest")));
+        taskInput = parametersUtils.getTaskInputV2(input, workflow, "taskId", null);
+        assertEquals("latest", taskInput.get("simple"));
+    }
+
+    private TaskModel createTask(
+            String taskId, String refName, int iteration, Map<String, Object> output) {
+        TaskModel task = new TaskModel();
+        task.setTaskId(taskId);
+        task.setReferenceTaskName(refName);
+        task.setIteration(iteration);
+        task.setStatus(TaskModel.Status.COMPLETED);
+        task.setOutputData(new HashMap<>(output));
+        return task;
+    }
 }
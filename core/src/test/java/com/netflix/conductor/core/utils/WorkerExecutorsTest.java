@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WorkerExecutorsTest {
+
+    @Test
+    public void testBoundedExecutorLimitsConcurrentTasks() throws Exception {
+        int concurrency = 3;
+        ExecutorService executorService =
+                new WorkerExecutors.BoundedExecutorService(
+                        Executors.newCachedThreadPool(), concurrency);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                try {
+                                    Thread.sleep(20);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                running.decrementAndGet();
+                            },
+                            executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+
+        assertEquals(concurrency, maxRunning.get());
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPlatformThreadsWhenVirtualThreadsAreDisabled() {
+        ExecutorService executorService = WorkerExecutors.newExecutor(false, 4, "test-%d");
+        assertTrue(executorService instanceof ThreadPoolExecutor);
+        assertEquals(4, ((ThreadPoolExecutor) executorService).getMaximumPoolSize());
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testVirtualThreadsWhenEnabled() throws Exception {
+        ExecutorService executorService = WorkerExecutors.newExecutor(true, 4, "test-%d");
+        if (WorkerExecutors.isVirtualThreadSupported()) {
+            assertTrue(executorService instanceof WorkerExecutors.BoundedExecutorService);
+            assertTrue(isVirtual(executorService.submit(Thread::currentThread).get()));
+        } else {
+            // falls back to the platform threads instead of failing
+            assertTrue(executorService instanceof ThreadPoolExecutor);
+            assertEquals(4, ((ThreadPoolExecutor) executorService).getMaximumPoolSize());
+            assertFalse(isVirtual(executorService.submit(Thread::currentThread).get()));
+        }
+        executorService.shutdown();
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.netflix.conductor.common.metadata.tasks.TaskType;
+import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class WorkflowModelTest {
+
+    @Test
+    public void testGetTaskByRefNameReturnsLatestTask() {
+        TaskModel task1 = createTask("t1", "ref1");
+        TaskModel task2 = createTask("t2", "ref2");
+        TaskModel task1Retry = createTask("t3", "ref1");
+
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setTasks(new ArrayList<>(Arrays.asList(task1, task2, task1Retry)));
+
+        assertSame(task1Retry, workflow.getTaskByRefName("ref1"));
+        assertSame(task2, workflow.getTaskByRefName("ref2"));
+        assertNull(workflow.getTaskByRefName("ref3"));
+        assertSame(task1, workflow.getTaskById("t1"));
+        assertNull(workflow.getTaskById("t4"));
+    }
+
+    @Test
+    public void testTaskLookupFollowsListChanges() {
+        TaskModel task1 = createTask("t1", "ref1");
+        TaskModel task2 = createTask("t2", "ref2");
+
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.getTasks().add(task1);
+        assertNull(workflow.getTaskByRefName("ref2"));
+
+        workflow.getTasks().add(task2);
+        assertSame(task2, workflow.getTaskByRefName("ref2"));
+        assertSame(task2, workflow.getTaskById("t2"));
+
+        workflow.getTasks().remove(task2);
+        assertNull(workflow.getTaskByRefName("ref2"));
+        assertNull(workflow.getTaskById("t2"));
+
+        task1.setReferenceTaskName("ref1__1");
+        assertNull(workflow.getTaskByRefName("ref1"));
+        assertSame(task1, workflow.getTaskByRefName("ref1__1"));
+
+        workflow.setTasks(new ArrayList<>(Arrays.asList(task2)));
+        assertSame(task2, workflow.getTaskByRefName("ref2"));
+        assertNull(workflow.getTaskById("t1"));
+
+        workflow.getTasks().clear();
+        assertNull(workflow.getTaskByRefName("ref2"));
+    }
+
+    @Test
+    public void testGetWorkflowTask() {
+        WorkflowTask task1 = createWorkflowTask("task1");
+        WorkflowTask task2 = createWorkflowTask("task2");
+        WorkflowTask decision = createWorkflowTask("decision");
+        decision.setType(TaskType.DECISION.name());
+        decision.setDecisionCases(Map.of("case", List.of(task2)));
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setTasks(List.of(task1, decision));
+
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setWorkflowDefinition(workflowDef);
+
+        assertSame(task1, workflow.getWorkflowTask("task1"));
+        assertSame(task2, workflow.getWorkflowTask("task2"));
+        assertSame(decision, workflow.getWorkflowTask("decision"));
+        assertNull(workflow.getWorkflowTask("task1__2"));
+
+        WorkflowTask task3 = createWorkflowTask("task3");
+        WorkflowDef newWorkflowDef = new WorkflowDef();
+        newWorkflowDef.setTasks(List.of(task3));
+        workflow.setWorkflowDefinition(newWorkflowDef);
+        assertNull(workflow.getWorkflowTask("task1"));
+        assertSame(task3, workflow.getWorkflowTask("task3"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testGetTaskByRefNameWithoutReferenceName() {
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.getTasks().add(createTask("t1", null));
+        workflow.getTaskByRefName("ref1");
+    }
+
+    private TaskModel createTask(String taskId, String refName) {
+        TaskModel task = new TaskModel();
+        task.setTaskId(taskId);
+        task.setReferenceTaskName(refName);
+        return task;
+    }
+
+    private WorkflowTask createWorkflowTask(String taskReferenceName) {
+        WorkflowTask workflowTask = new WorkflowTask();
+        workflowTask.setName(taskReferenceName);
+        workflowTask.setTaskReferenceName(taskReferenceName);
+        workflowTask.setType(TaskType.SIMPLE.name());
+        return workflowTask;
+    }
+}
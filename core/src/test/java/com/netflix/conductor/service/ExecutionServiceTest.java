@@ -35,8 +35,18 @@ import com.netflix.conductor.core.dal.ExecutionDAOFacade;
 import com.netflix.conductor.core.execution.WorkflowExecutor;
 import com.netflix.conductor.core.execution.tasks.SystemTaskRegistry;
 import com.netflix.conductor.dao.QueueDAO;
+import com.netflix.conductor.model.TaskModel;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -265,4 +275,50 @@ public class ExecutionServiceTest {
         assertEquals(1, searchResult.getTotalHits());
         assertEquals(Collections.singletonList(taskWorkflow1), searchResult.getResults());
     }
+
+    @Test
+    public void pollLoadsAndAcksTasksTogether() {
+        List<String> taskIds = Arrays.asList("task1", "task2", "task3");
+        when(queueDAO.pop("taskType", 3, 100)).thenReturn(taskIds);
+        when(executionDAOFacade.getTaskModels(taskIds))
+                .thenReturn(Arrays.asList(createTaskModel("task1"), createTaskModel("task2")));
+
+        List<Task> tasks = executionService.poll("taskType", "worker", 3, 100);
+
+        assertEquals(2, tasks.size());
+        assertEquals(Task.Status.IN_PROGRESS, tasks.get(0).getStatus());
+        assertEquals("worker", tasks.get(1).getWorkerId());
+        verify(executionDAOFacade, never()).getTaskModel(anyString());
+        verify(executionDAOFacade, times(2)).updateTask(any());
+        verify(executionDAOFacade).startUnitOfWork();
+        verify(executionDAOFacade).endUnitOfWork(true);
+        verify(queueDAO).remove("taskType", "task3");
+        verify(queueDAO).ack("taskType", Arrays.asList("task1", "task2"));
+        verify(queueDAO, never()).ack(anyString(), anyString());
+    }
+
+    @Test
+    public void pollPostponesTasksWhenTheirUpdatesFail() {
+        List<String> taskIds = Arrays.asList("task1", "task2");
+        when(queueDAO.pop("taskType", 2, 100)).thenReturn(taskIds);
+        when(executionDAOFacade.getTaskModels(taskIds))
+                .thenReturn(Arrays.asList(createTaskModel("task1"), createTaskModel("task2")));
+        doThrow(new RuntimeException()).when(executionDAOFacade).flushUnitOfWork();
+
+        List<Task> tasks = executionService.poll("taskType", "worker", 2, 100);
+
+        assertEquals(0, tasks.size());
+        verify(queueDAO, times(2)).postpone(anyString(), anyString(), anyInt(), anyLong());
+        verify(queueDAO, never()).ack(anyString(), anyList());
+        verify(executionDAOFacade).endUnitOfWork(false);
+    }
+
+    private TaskModel createTaskModel(String taskId) {
+        TaskModel taskModel = new TaskModel();
+        taskModel.setTaskId(taskId);
+        taskModel.setTaskType("taskType");
+        taskModel.setTaskDefName("taskType");
+        taskModel.setStatus(TaskModel.Status.SCHEDULED);
+        return taskModel;
+    }
 }
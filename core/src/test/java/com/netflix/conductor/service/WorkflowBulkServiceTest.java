@@ -27,13 +27,17 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.netflix.conductor.common.metadata.workflow.StartWorkflowRequest;
 import com.netflix.conductor.core.execution.WorkflowExecutor;
+import com.netflix.conductor.core.operation.StartWorkflowOperation;
 
 import static com.netflix.conductor.TestUtils.getConstraintViolationMessages;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @SuppressWarnings("SpringJavaAutowiredMembersInspection")
@@ -50,15 +54,48 @@ public class WorkflowBulkServiceTest {
         }
 
         @Bean
-        public WorkflowBulkService workflowBulkService(WorkflowExecutor workflowExecutor) {
-            return new WorkflowBulkServiceImpl(workflowExecutor);
+        StartWorkflowOperation startWorkflowOperation() {
+            return mock(StartWorkflowOperation.class);
+        }
+
+        @Bean
+        public WorkflowBulkService workflowBulkService(
+                WorkflowExecutor workflowExecutor, StartWorkflowOperation startWorkflowOperation) {
+            return new WorkflowBulkServiceImpl(workflowExecutor, startWorkflowOperation);
         }
     }
 
     @Autowired private WorkflowExecutor workflowExecutor;
 
+    @Autowired private StartWorkflowOperation startWorkflowOperation;
+
     @Autowired private WorkflowBulkService workflowBulkService;
 
+    @Test(expected = ConstraintViolationException.class)
+    public void testStartWorkflowsNull() {
+        try {
+            workflowBulkService.startWorkflows(null);
+        } catch (ConstraintViolationException ex) {
+            assertEquals(1, ex.getConstraintViolations().size());
+            Set<String> messages = getConstraintViolationMessages(ex.getConstraintViolations());
+            assertTrue(messages.contains("StartWorkflowRequest list cannot be null."));
+            throw ex;
+        }
+    }
+
+    @Test
+    public void testStartWorkflows() {
+        StartWorkflowRequest request = new StartWorkflowRequest();
+        request.setName("test");
+        workflowBulkService.startWorkflows(Collections.singletonList(request));
+        verify(startWorkflowOperation, times(1))
+                .startWorkflows(
+                        argThat(
+                                inputs ->
+                                        inputs.size() == 1
+                                                && "test".equals(inputs.get(0).getName())));
+    }
+
     @Test(expected = ConstraintViolationException.class)
     public void testPauseWorkflowNull() {
         try {
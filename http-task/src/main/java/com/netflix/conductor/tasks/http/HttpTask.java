@@ -17,6 +17,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,11 +31,14 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.netflix.conductor.common.metadata.tasks.TaskResult;
 import com.netflix.conductor.core.execution.WorkflowExecutor;
 import com.netflix.conductor.core.execution.tasks.WorkflowSystemTask;
 import com.netflix.conductor.core.utils.Utils;
 import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.model.WorkflowModel;
+import com.netflix.conductor.tasks.http.providers.DefaultRestTemplateProvider;
+import com.netflix.conductor.tasks.http.providers.NonBlockingHttpClient;
 import com.netflix.conductor.tasks.http.providers.RestTemplateProvider;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -53,6 +60,11 @@ public class HttpTask extends WorkflowSystemTask {
                     + REQUEST_PARAMETER_NAME
                     + "' key with HttpTask.Input as value. See documentation for HttpTask for required input parameters";
 
+    /** How long the response of a non-blocking call may take to be stored with its task. */
+    private static final long NON_BLOCKING_COMPLETION_GRACE_PERIOD_MS = 5000;
+
+    private static final long NON_BLOCKING_COMPLETION_RETRY_MS = 50;
+
     private final TypeReference<Map<String, Object>> mapOfObj =
             new TypeReference<Map<String, Object>>() {};
     private final TypeReference<List<Object>> listOfObj = new TypeReference<List<Object>>() {};
@@ -60,16 +72,46 @@ public class HttpTask extends WorkflowSystemTask {
     protected RestTemplateProvider restTemplateProvider;
     private final String requestParameter;
 
+    /** Set when the requests are sent without blocking the system task worker. */
+    private final NonBlockingHttpClient nonBlockingHttpClient;
+
     @Autowired
+    public HttpTask(
+            RestTemplateProvider restTemplateProvider,
+            ObjectMapper objectMapper,
+            Optional<NonBlockingHttpClient> nonBlockingHttpClient) {
+        this(
+                TASK_TYPE_HTTP,
+                restTemplateProvider,
+                objectMapper,
+                nonBlockingHttpClient.orElse(null));
+    }
+
     public HttpTask(RestTemplateProvider restTemplateProvider, ObjectMapper objectMapper) {
-        this(TASK_TYPE_HTTP, restTemplateProvider, objectMapper);
+        this(TASK_TYPE_HTTP, restTemplateProvider, objectMapper, null);
     }
 
     public HttpTask(
             String name, RestTemplateProvider restTemplateProvider, ObjectMapper objectMapper) {
+        this(name, restTemplateProvider, objectMapper, null);
+    }
+
+    public HttpTask(
+            String name,
+            RestTemplateProvider restTemplateProvider,
+            ObjectMapper objectMapper,
+            NonBlockingHttpClient nonBlockingHttpClient) {
         super(name);
         this.restTemplateProvider = restTemplateProvider;
         this.objectMapper = objectMapper;
+        // the non-blocking client would skip the templates and interceptors of a custom provider
+        if (nonBlockingHttpClient != null
+                && restTemplateProvider.getClass() != DefaultRestTemplateProvider.class) {
+            LOGGER.warn(
+                    "{} uses a custom RestTemplateProvider, its requests are sent blocking", name);
+            nonBlockingHttpClient = null;
+        }
+        this.nonBlockingHttpClient = nonBlockingHttpClient;
         this.requestParameter = REQUEST_PARAMETER_NAME;
         LOGGER.info("{} initialized...", getTaskType());
     }
@@ -100,45 +142,119 @@ public class HttpTask extends WorkflowSystemTask {
             return;
         }
 
+        if (nonBlockingHttpClient != null && !isAsyncComplete(task)) {
+            startNonBlocking(task, input, executor);
+            return;
+        }
+
         try {
-            HttpResponse response = httpCall(input);
-            LOGGER.debug(
-                    "Response: {}, {}, task:{}",
-                    response.statusCode,
-                    response.body,
-                    task.getTaskId());
-            if (response.statusCode > 199 && response.statusCode < 300) {
-                if (isAsyncComplete(task)) {
-                    task.setStatus(TaskModel.Status.IN_PROGRESS);
-                } else {
-                    task.setStatus(TaskModel.Status.COMPLETED);
-                }
+            applyResponse(task, httpCall(input));
+        } catch (Exception e) {
+            applyFailure(task, input, e);
+        }
+    }
+
+    private void applyResponse(TaskModel task, HttpResponse response) {
+        LOGGER.debug(
+                "Response: {}, {}, task:{}", response.statusCode, response.body, task.getTaskId());
+        if (response.statusCode > 199 && response.statusCode < 300) {
+            if (isAsyncComplete(task)) {
+                task.setStatus(TaskModel.Status.IN_PROGRESS);
             } else {
-                if (response.body != null) {
-                    task.setReasonForIncompletion(response.body.toString());
-                } else {
-                    task.setReasonForIncompletion("No response from the remote service");
-                }
-                task.setStatus(TaskModel.Status.FAILED);
+                task.setStatus(TaskModel.Status.COMPLETED);
             }
-            //noinspection ConstantConditions
-            if (response != null) {
-                task.addOutput("response", response.asMap());
+        } else {
+            if (response.body != null) {
+                task.setReasonForIncompletion(response.body.toString());
+            } else {
+                task.setReasonForIncompletion("No response from the remote service");
             }
+            task.setStatus(TaskModel.Status.FAILED);
+        }
+        task.addOutput("response", response.asMap());
+    }
 
+    private void applyFailure(TaskModel task, Input input, Throwable e) {
+        LOGGER.error(
+                "Failed to invoke {} task: {} - uri: {}, vipAddress: {} in workflow: {}",
+                getTaskType(),
+                task.getTaskId(),
+                input.getUri(),
+                input.getVipAddress(),
+                task.getWorkflowInstanceId(),
+                e);
+        task.setStatus(TaskModel.Status.FAILED);
+        task.setReasonForIncompletion("Failed to invoke " + getTaskType() + " task due to: " + e);
+        task.addOutput("response", e.toString());
+    }
+
+    /**
+     * Sends the request and leaves the task IN_PROGRESS. Once the response is in, it is applied to
+     * a copy of the task and stored by {@link #reportCompletion(TaskModel, WorkflowExecutor, long)}
+     * through {@link WorkflowExecutor#updateTask(TaskResult)}, which also evaluates the workflow.
+     */
+    private void startNonBlocking(TaskModel task, Input input, WorkflowExecutor executor) {
+        CompletableFuture<ResponseEntity<String>> call;
+        try {
+            call = nonBlockingHttpClient.send(input);
         } catch (Exception e) {
-            LOGGER.error(
-                    "Failed to invoke {} task: {} - uri: {}, vipAddress: {} in workflow: {}",
+            applyFailure(task, input, e);
+            return;
+        }
+        task.setStatus(TaskModel.Status.IN_PROGRESS);
+        TaskModel result = task.copy();
+        call.whenComplete(
+                (responseEntity, error) -> {
+                    try {
+                        if (error == null) {
+                            applyResponse(result, toHttpResponse(responseEntity));
+                        } else {
+                            applyFailure(
+                                    result,
+                                    input,
+                                    error instanceof CompletionException
+                                            ? error.getCause()
+                                            : error);
+                        }
+                    } catch (Exception e) {
+                        applyFailure(result, input, e);
+                    }
+                    reportCompletion(result, executor, System.currentTimeMillis());
+                });
+    }
+
+    /**
+     * Stores the result of a call if its task is still IN_PROGRESS. A task still stored as
+     * SCHEDULED has not been written yet by the system task worker that started it, so this is
+     * repeated until it has been or the grace period is over. A task that has moved on in the
+     * meantime (e.g. canceled or timed out) is left as it is.
+     */
+    private void reportCompletion(
+            TaskModel result, WorkflowExecutor executor, long completionTime) {
+        boolean retry;
+        try {
+            TaskModel stored = executor.getTask(result.getTaskId());
+            retry = stored != null && stored.getStatus() == TaskModel.Status.SCHEDULED;
+            if (stored != null && stored.getStatus() == TaskModel.Status.IN_PROGRESS) {
+                executor.updateTask(new TaskResult(result.toTask()));
+            }
+        } catch (Exception e) {
+            LOGGER.warn(
+                    "Failed to store the response of {} task: {}",
                     getTaskType(),
-                    task.getTaskId(),
-                    input.getUri(),
-                    input.getVipAddress(),
-                    task.getWorkflowInstanceId(),
+                    result.getTaskId(),
                     e);
-            task.setStatus(TaskModel.Status.FAILED);
-            task.setReasonForIncompletion(
-                    "Failed to invoke " + getTaskType() + " task due to: " + e);
-            task.addOutput("response", e.toString());
+            retry = true;
+        }
+        if (retry
+                && System.currentTimeMillis() - completionTime
+                        < NON_BLOCKING_COMPLETION_GRACE_PERIOD_MS) {
+            nonBlockingHttpClient
+                    .getCompletionExecutor()
+                    .schedule(
+                            () -> reportCompletion(result, executor, completionTime),
+                            NON_BLOCKING_COMPLETION_RETRY_MS,
+                            TimeUnit.MILLISECONDS);
         }
     }
 
@@ -164,18 +280,10 @@ public class HttpTask extends WorkflowSystemTask {
 
         HttpEntity<Object> request = new HttpEntity<>(input.getBody(), headers);
 
-        HttpResponse response = new HttpResponse();
         try {
             ResponseEntity<String> responseEntity =
                     restTemplate.exchange(input.getUri(), input.getMethod(), request, String.class);
-            if (responseEntity.getStatusCode().is2xxSuccessful() && responseEntity.hasBody()) {
-                response.body = extractBody(responseEntity.getBody());
-            }
-
-            response.statusCode = responseEntity.getStatusCodeValue();
-            response.reasonPhrase = responseEntity.getStatusCode().getReasonPhrase();
-            response.headers = responseEntity.getHeaders();
-            return response;
+            return toHttpResponse(responseEntity);
         } catch (RestClientException ex) {
             LOGGER.error(
                     String.format(
@@ -188,6 +296,18 @@ public class HttpTask extends WorkflowSystemTask {
         }
     }
 
+    private HttpResponse toHttpResponse(ResponseEntity<String> responseEntity) {
+        HttpResponse response = new HttpResponse();
+        if (responseEntity.getStatusCode().is2xxSuccessful() && responseEntity.hasBody()) {
+            response.body = extractBody(responseEntity.getBody());
+        }
+
+        response.statusCode = responseEntity.getStatusCodeValue();
+        response.reasonPhrase = responseEntity.getStatusCode().getReasonPhrase();
+        response.headers = responseEntity.getHeaders();
+        return response;
+    }
+
     private Object extractBody(String responseBody) {
         try {
             JsonNode node = objectMapper.readTree(responseBody);
@@ -206,9 +326,42 @@ public class HttpTask extends WorkflowSystemTask {
         }
     }
 
+    /**
+     * Only runs in non-blocking mode for a task whose response has not been stored yet. The task is
+     * left alone while its call may still complete, on whichever server sent it. After that no
+     * server holds the call anymore, e.g. the one that sent it went away, and the outcome is
+     * unknown, so the task is scheduled again and its request sent anew, as it would be if the
+     * server had gone away during a blocking call.
+     */
     @Override
     public boolean execute(WorkflowModel workflow, TaskModel task, WorkflowExecutor executor) {
-        return false;
+        if (nonBlockingHttpClient == null || isAsyncComplete(task)) {
+            return false;
+        }
+        TaskModel stored = executor.getTask(task.getTaskId());
+        if (stored != null && stored.getStatus().isTerminal()) {
+            // the response was stored after this copy was loaded, keep it rather than writing
+            // this copy over it
+            task.setStatus(stored.getStatus());
+            task.setReasonForIncompletion(stored.getReasonForIncompletion());
+            task.setOutputData(stored.getOutputData());
+            task.setEndTime(stored.getEndTime());
+            return true;
+        }
+        Input input =
+                objectMapper.convertValue(task.getInputData().get(requestParameter), Input.class);
+        if (System.currentTimeMillis() - task.getStartTime()
+                < nonBlockingHttpClient.getRequestTimeout(input)
+                        + NON_BLOCKING_COMPLETION_GRACE_PERIOD_MS) {
+            return false;
+        }
+        LOGGER.warn(
+                "No response stored for {} task: {} in workflow: {}, sending the request again",
+                getTaskType(),
+                task.getTaskId(),
+                task.getWorkflowInstanceId());
+        task.setStatus(TaskModel.Status.SCHEDULED);
+        return true;
     }
 
     @Override
@@ -12,50 +12,126 @@
  */
 package com.netflix.conductor.tasks.http.providers;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import com.netflix.conductor.metrics.Monitors;
 import com.netflix.conductor.tasks.http.HttpTask;
 
 /**
  * Provider for a customized RestTemplateBuilder. This class provides a default {@link
  * RestTemplateBuilder} which can be configured or extended as needed.
+ *
+ * <p>All the templates share one pooled HTTP client, so that connections to the same host are kept
+ * alive and reused across task executions. Only the timeouts are set per request.
  */
 @Component
 public class DefaultRestTemplateProvider implements RestTemplateProvider {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRestTemplateProvider.class);
+
     private final ThreadLocal<RestTemplate> threadLocalRestTemplate;
 
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
     private final int defaultReadTimeout;
     private final int defaultConnectTimeout;
 
+    public DefaultRestTemplateProvider(Duration readTimeout, Duration connectTimeout) {
+        this(readTimeout, connectTimeout, 200, 50, Duration.ofSeconds(30));
+    }
+
     @Autowired
     public DefaultRestTemplateProvider(
             @Value("${conductor.tasks.http.readTimeout:150ms}") Duration readTimeout,
-            @Value("${conductor.tasks.http.connectTimeout:100ms}") Duration connectTimeout) {
-        this.threadLocalRestTemplate = ThreadLocal.withInitial(RestTemplate::new);
+            @Value("${conductor.tasks.http.connectTimeout:100ms}") Duration connectTimeout,
+            @Value("${conductor.tasks.http.maxConnections:200}") int maxConnections,
+            @Value("${conductor.tasks.http.maxConnectionsPerRoute:50}") int maxConnectionsPerRoute,
+            @Value("${conductor.tasks.http.connectionIdleTimeout:30s}")
+                    Duration connectionIdleTimeout) {
         this.defaultReadTimeout = (int) readTimeout.toMillis();
         this.defaultConnectTimeout = (int) connectTimeout.toMillis();
+
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        this.httpClient =
+                HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                        .evictExpiredConnections()
+                        .evictIdleConnections(
+                                connectionIdleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .build();
+
+        this.threadLocalRestTemplate =
+                ThreadLocal.withInitial(
+                        () -> {
+                            RestTemplate restTemplate = new RestTemplate();
+                            restTemplate.getInterceptors().add(metricsInterceptor());
+                            return restTemplate;
+                        });
     }
 
     @Override
     public @NonNull RestTemplate getRestTemplate(@NonNull HttpTask.Input input) {
         RestTemplate restTemplate = threadLocalRestTemplate.get();
+        // the factory only holds the timeouts, the connections belong to the shared client
         HttpComponentsClientHttpRequestFactory requestFactory =
-                new HttpComponentsClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(
-                Optional.ofNullable(input.getConnectionTimeOut()).orElse(defaultConnectTimeout));
+                new HttpComponentsClientHttpRequestFactory(httpClient);
+        int connectTimeout =
+                Optional.ofNullable(input.getConnectionTimeOut()).orElse(defaultConnectTimeout);
+        requestFactory.setConnectTimeout(connectTimeout);
+        // waiting for a connection of an exhausted pool is bounded like establishing one
+        requestFactory.setConnectionRequestTimeout(connectTimeout);
         requestFactory.setReadTimeout(
                 Optional.ofNullable(input.getReadTimeOut()).orElse(defaultReadTimeout));
         restTemplate.setRequestFactory(requestFactory);
         return restTemplate;
     }
+
+    @PreDestroy
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOGGER.warn("Error closing the http client", e);
+        }
+    }
+
+    private ClientHttpRequestInterceptor metricsInterceptor() {
+        return (request, body, execution) -> {
+            long start = System.currentTimeMillis();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                Monitors.recordHttpRequestTime(
+                        request.getURI().getHost(), System.currentTimeMillis() - start);
+                PoolStats stats = connectionManager.getTotalStats();
+                Monitors.recordHttpConnectionPool(
+                        stats.getLeased(), stats.getAvailable(), stats.getPending());
+            }
+        };
+    }
 }
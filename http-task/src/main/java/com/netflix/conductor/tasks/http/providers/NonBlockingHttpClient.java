@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.tasks.http.providers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.netflix.conductor.metrics.Monitors;
+import com.netflix.conductor.tasks.http.HttpTask;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends the requests of {@link HttpTask} without holding a thread while they are in flight. The
+ * responses are handed to a small pool of completion threads, which is also available to schedule
+ * follow-up work.
+ *
+ * <p>A connect timeout can only be set for a whole client, so there is one client per connect
+ * timeout in use, each keeping its own connections. The read timeout of a {@link HttpTask.Input} is
+ * applied, together with its connect timeout, as the deadline of the whole request.
+ *
+ * <p>Only used with the {@link DefaultRestTemplateProvider}, whose request time metric it records
+ * as well.
+ */
+@Component
+@ConditionalOnProperty(name = "conductor.tasks.http.async.enabled", havingValue = "true")
+public class NonBlockingHttpClient {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService completionExecutor;
+    private final Map<Integer, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    private final int defaultReadTimeout;
+    private final int defaultConnectTimeout;
+
+    @Autowired
+    public NonBlockingHttpClient(
+            ObjectMapper objectMapper,
+            @Value("${conductor.tasks.http.readTimeout:150ms}") Duration readTimeout,
+            @Value("${conductor.tasks.http.connectTimeout:100ms}") Duration connectTimeout,
+            @Value("${conductor.tasks.http.async.completionThreadCount:4}")
+                    int completionThreadCount) {
+        this.objectMapper = objectMapper;
+        this.defaultReadTimeout = (int) readTimeout.toMillis();
+        this.defaultConnectTimeout = (int) connectTimeout.toMillis();
+        this.completionExecutor =
+                new ScheduledThreadPoolExecutor(
+                        completionThreadCount,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "http-task-completion-"
+                                                    + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * @param input the request to send
+     * @return a future completed on one of the completion threads with the response, whatever its
+     *     status code, or exceptionally if no response was received in time
+     */
+    public CompletableFuture<ResponseEntity<String>> send(HttpTask.Input input) {
+        HttpRequest.Builder request =
+                HttpRequest.newBuilder(URI.create(input.getUri()))
+                        .timeout(Duration.ofMillis(getRequestTimeout(input)))
+                        .header(HttpHeaders.CONTENT_TYPE, input.getContentType())
+                        .header(HttpHeaders.ACCEPT, input.getAccept())
+                        .method(input.getMethod().name(), bodyPublisher(input.getBody()));
+        input.getHeaders()
+                .forEach(
+                        (key, value) -> {
+                            if (value != null) {
+                                request.header(key, value.toString());
+                            }
+                        });
+
+        HttpRequest httpRequest = request.build();
+        int connectTimeout =
+                Optional.ofNullable(input.getConnectionTimeOut()).orElse(defaultConnectTimeout);
+        long start = System.currentTimeMillis();
+        return getHttpClient(connectTimeout)
+                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .whenComplete(
+                        (response, error) ->
+                                Monitors.recordHttpRequestTime(
+                                        httpRequest.uri().getHost(),
+                                        System.currentTimeMillis() - start))
+                .thenApplyAsync(this::toResponseEntity, completionExecutor);
+    }
+
+    /**
+     * @return the deadline in milliseconds of the whole request
+     */
+    public long getRequestTimeout(HttpTask.Input input) {
+        return Optional.ofNullable(input.getConnectionTimeOut()).orElse(defaultConnectTimeout)
+                + Optional.ofNullable(input.getReadTimeOut()).orElse(defaultReadTimeout);
+    }
+
+    public ScheduledExecutorService getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+        try {
+            completionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpClient getHttpClient(int connectTimeout) {
+        return httpClients.computeIfAbsent(
+                connectTimeout,
+                timeout ->
+                        HttpClient.newBuilder()
+                                .connectTimeout(Duration.ofMillis(timeout))
+                                .executor(completionExecutor)
+                                .build());
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof String) {
+            return HttpRequest.BodyPublishers.ofString((String) body);
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize the request body", e);
+        }
+    }
+
+    private ResponseEntity<String> toResponseEntity(HttpResponse<String> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return ResponseEntity.status(response.statusCode()).headers(headers).body(response.body());
+    }
+}
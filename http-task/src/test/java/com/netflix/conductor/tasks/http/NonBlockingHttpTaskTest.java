@@ -0,0 +1,259 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.tasks.http;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.netflix.conductor.common.metadata.tasks.TaskResult;
+import com.netflix.conductor.core.execution.WorkflowExecutor;
+import com.netflix.conductor.model.TaskModel;
+import com.netflix.conductor.model.WorkflowModel;
+import com.netflix.conductor.tasks.http.providers.DefaultRestTemplateProvider;
+import com.netflix.conductor.tasks.http.providers.NonBlockingHttpClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+public class NonBlockingHttpTaskTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private final CountDownLatch slowResponse = new CountDownLatch(1);
+    private NonBlockingHttpClient nonBlockingHttpClient;
+    private NonBlockingHttpClient otherNonBlockingHttpClient;
+    private HttpTask httpTask;
+
+    /** The same task on another server, which shares the stored tasks with the first one. */
+    private HttpTask otherHttpTask;
+
+    private WorkflowExecutor workflowExecutor;
+    private final Map<String, TaskModel> storedTasks = new ConcurrentHashMap<>();
+    private final WorkflowModel workflow = new WorkflowModel();
+
+    @Before
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/json", exchange -> respond(exchange, 200, "{\"key\":\"value\"}"));
+        server.createContext("/failure", exchange -> respond(exchange, 500, "error"));
+        server.createContext(
+                "/slow",
+                exchange -> {
+                    try {
+                        slowResponse.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    respond(exchange, 200, "{\"key\":\"slow\"}");
+                });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        // the stored tasks, as read and written by WorkflowExecutor
+        workflowExecutor = mock(WorkflowExecutor.class);
+        when(workflowExecutor.getTask(anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            TaskModel task = storedTasks.get(invocation.<String>getArgument(0));
+                            return task == null ? null : task.copy();
+                        });
+        doAnswer(
+                        invocation -> {
+                            TaskResult result = invocation.getArgument(0);
+                            TaskModel task = storedTasks.get(result.getTaskId());
+                            task.setStatus(TaskModel.Status.valueOf(result.getStatus().name()));
+                            task.setReasonForIncompletion(result.getReasonForIncompletion());
+                            task.setOutputData(result.getOutputData());
+                            return null;
+                        })
+                .when(workflowExecutor)
+                .updateTask(any());
+
+        nonBlockingHttpClient =
+                new NonBlockingHttpClient(
+                        objectMapper, Duration.ofSeconds(5), Duration.ofSeconds(1), 2);
+        otherNonBlockingHttpClient =
+                new NonBlockingHttpClient(
+                        objectMapper, Duration.ofSeconds(5), Duration.ofSeconds(1), 2);
+        httpTask = createHttpTask(nonBlockingHttpClient);
+        otherHttpTask = createHttpTask(otherNonBlockingHttpClient);
+    }
+
+    @After
+    public void teardown() {
+        slowResponse.countDown();
+        nonBlockingHttpClient.shutdown();
+        otherNonBlockingHttpClient.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testResponseCompletesTheTask() {
+        TaskModel task = createTask("/json");
+        httpTask.start(workflow, task, workflowExecutor);
+        assertEquals(TaskModel.Status.IN_PROGRESS, task.getStatus());
+        store(task);
+
+        verify(workflowExecutor, timeout(5000)).updateTask(any());
+        TaskModel stored = storedTasks.get(task.getTaskId());
+        assertEquals(TaskModel.Status.COMPLETED, stored.getStatus());
+        Map<String, Object> response = (Map<String, Object>) stored.getOutputData().get("response");
+        assertEquals(200, response.get("statusCode"));
+        assertEquals("value", ((Map<String, Object>) response.get("body")).get("key"));
+    }
+
+    @Test
+    public void testErrorResponseFailsTheTask() {
+        TaskModel task = createTask("/failure");
+        httpTask.start(workflow, task, workflowExecutor);
+        store(task);
+
+        verify(workflowExecutor, timeout(5000)).updateTask(any());
+        TaskModel stored = storedTasks.get(task.getTaskId());
+        assertEquals(TaskModel.Status.FAILED, stored.getStatus());
+        Map<String, Object> response = (Map<String, Object>) stored.getOutputData().get("response");
+        assertEquals(500, response.get("statusCode"));
+    }
+
+    @Test
+    public void testResponseWaitsForTheStartedTaskToBeStored() throws Exception {
+        TaskModel task = createTask("/json");
+        httpTask.start(workflow, task, workflowExecutor);
+
+        // the system task worker that started the task has not written it yet
+        verify(workflowExecutor, timeout(5000).atLeast(2)).getTask(task.getTaskId());
+        verify(workflowExecutor, never()).updateTask(any());
+
+        store(task);
+        verify(workflowExecutor, timeout(5000)).updateTask(any());
+        assertEquals(TaskModel.Status.COMPLETED, storedTasks.get(task.getTaskId()).getStatus());
+    }
+
+    @Test
+    public void testCanceledTaskIsNotUpdated() {
+        TaskModel task = createTask("/slow");
+        httpTask.start(workflow, task, workflowExecutor);
+        TaskModel canceled = task.copy();
+        canceled.setStatus(TaskModel.Status.CANCELED);
+        store(canceled);
+        slowResponse.countDown();
+
+        verify(workflowExecutor, timeout(5000)).getTask(task.getTaskId());
+        verify(workflowExecutor, never()).updateTask(any());
+        assertEquals(TaskModel.Status.CANCELED, storedTasks.get(task.getTaskId()).getStatus());
+    }
+
+    @Test
+    public void testCallInFlightOnAnotherServer() {
+        TaskModel task = createTask("/slow");
+        httpTask.start(workflow, task, workflowExecutor);
+        store(task);
+
+        // the other server pops the task while the call is in flight
+        TaskModel otherCopy = storedTasks.get(task.getTaskId()).copy();
+        assertFalse(otherHttpTask.execute(workflow, otherCopy, workflowExecutor));
+        assertEquals(TaskModel.Status.IN_PROGRESS, otherCopy.getStatus());
+
+        // and once more just as the response is stored by the server that sent the call
+        slowResponse.countDown();
+        verify(workflowExecutor, timeout(5000)).updateTask(any());
+        assertTrue(otherHttpTask.execute(workflow, otherCopy, workflowExecutor));
+        assertEquals(TaskModel.Status.COMPLETED, otherCopy.getStatus());
+        Map<String, Object> response =
+                (Map<String, Object>) otherCopy.getOutputData().get("response");
+        assertEquals("slow", ((Map<String, Object>) response.get("body")).get("key"));
+    }
+
+    @Test
+    public void testLostCallIsSentAgain() {
+        TaskModel task = createTask("/json");
+        task.setStatus(TaskModel.Status.IN_PROGRESS);
+        task.setStartTime(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+        store(task);
+
+        // no server holds the call, its outcome is unknown
+        assertTrue(otherHttpTask.execute(workflow, task, workflowExecutor));
+        assertEquals(TaskModel.Status.SCHEDULED, task.getStatus());
+        verify(workflowExecutor, never()).updateTask(any());
+    }
+
+    @Test
+    public void testCustomProviderSendsBlocking() {
+        HttpTask blockingHttpTask =
+                new HttpTask(
+                        "HTTP", input -> new RestTemplate(), objectMapper, nonBlockingHttpClient);
+        TaskModel task = createTask("/json");
+        blockingHttpTask.start(workflow, task, workflowExecutor);
+        assertEquals(TaskModel.Status.COMPLETED, task.getStatus());
+    }
+
+    private HttpTask createHttpTask(NonBlockingHttpClient client) {
+        return new HttpTask(
+                "HTTP",
+                new DefaultRestTemplateProvider(Duration.ofSeconds(5), Duration.ofSeconds(1)),
+                objectMapper,
+                client);
+    }
+
+    private TaskModel createTask(String path) {
+        HttpTask.Input input = new HttpTask.Input();
+        input.setUri("http://localhost:" + server.getAddress().getPort() + path);
+        input.setMethod("GET");
+        TaskModel task = new TaskModel();
+        task.setTaskId("taskId" + path.replace('/', '_'));
+        task.setTaskType("HTTP");
+        task.setStatus(TaskModel.Status.SCHEDULED);
+        task.setStartTime(System.currentTimeMillis());
+        task.getInputData().put(HttpTask.REQUEST_PARAMETER_NAME, input);
+        store(task);
+        return task;
+    }
+
+    private void store(TaskModel task) {
+        storedTasks.put(task.getTaskId(), task.copy());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
@@ -12,13 +12,19 @@
  */
 package com.netflix.conductor.tasks.http.providers;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 import org.springframework.web.client.RestTemplate;
 
 import com.netflix.conductor.tasks.http.HttpTask;
 
+import com.sun.net.httpserver.HttpServer;
+
 import static org.junit.Assert.*;
 
 public class DefaultRestTemplateProviderTest {
@@ -54,4 +60,34 @@ public class DefaultRestTemplateProviderTest {
         assertSame(client1, client2);
         assertNotNull(client1);
     }
+
+    @Test
+    public void connectionsAreReused() throws Exception {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    clientPorts.add(exchange.getRemoteAddress().getPort());
+                    byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, response.length);
+                    exchange.getResponseBody().write(response);
+                    exchange.close();
+                });
+        server.start();
+        DefaultRestTemplateProvider defaultRestTemplateProvider =
+                new DefaultRestTemplateProvider(Duration.ofSeconds(5), Duration.ofSeconds(5));
+        try {
+            String uri = "http://localhost:" + server.getAddress().getPort() + "/";
+            for (int i = 0; i < 3; i++) {
+                defaultRestTemplateProvider
+                        .getRestTemplate(new HttpTask.Input())
+                        .getForObject(uri, String.class);
+            }
+            assertEquals(1, clientPorts.size());
+        } finally {
+            defaultRestTemplateProvider.close();
+            server.stop(0);
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.time.temporal.ChronoUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
 
 import com.netflix.conductor.core.config.ConductorProperties;
 import com.netflix.conductor.redis.dynoqueue.RedisQueuesShardingStrategyProvider;
@@ -86,7 +87,11 @@ public class RedisProperties {
     /** The sharding strategy to be used for the dyno queue configuration */
     private String queueShardingStrategy = RedisQueuesShardingStrategyProvider.ROUND_ROBIN_STRATEGY;
 
-    /** The time in seconds after which the in-memory task definitions cache will be refreshed */
+    /**
+     * The time in seconds after which the in-memory task definitions cache will be refreshed. The
+     * definitions changed through other nodes are already picked up every {@link
+     * #metadataChangePollInterval}, so this only needs to catch up on missed changes.
+     */
     @DurationUnit(ChronoUnit.SECONDS)
     private Duration taskDefCacheRefreshInterval = Duration.ofSeconds(60);
 
@@ -94,6 +99,46 @@ public class RedisProperties {
     @DurationUnit(ChronoUnit.SECONDS)
     private Duration eventExecutionPersistenceTTL = Duration.ofSeconds(60);
 
+    /**
+     * Whether the execution data writes of one decide pass are sent to redis as a single
+     * transaction (or one pipeline per node on a redis cluster) instead of one command at a time
+     */
+    private boolean writeBatchingEnabled = false;
+
+    /**
+     * The interval at which the poll data updates are written to redis. The updates of a task queue
+     * and domain received in between are coalesced into one write. Set to 0 to write every update
+     * as it is received.
+     */
+    private Duration pollDataFlushInterval = Duration.ofSeconds(1);
+
+    /**
+     * The time for which the poll data read from redis is kept in memory, e.g. to find the active
+     * domain of the tasks. Set to 0 to always read it from redis.
+     */
+    private Duration pollDataCacheValidityPeriod = Duration.ofSeconds(1);
+
+    /**
+     * The time for which the workflow definitions read from redis, and the latest version of each,
+     * are kept in memory. Definitions changed through this node are updated in memory right away.
+     * Set to 0 to always read them from redis.
+     */
+    private Duration workflowDefCacheValidityPeriod = Duration.ofSeconds(10);
+
+    /**
+     * The interval at which each node checks which task definitions, workflow definitions and event
+     * handlers were changed through other nodes, to update them in its caches. Set to 0 to rely on
+     * the periodic refreshes only.
+     */
+    private Duration metadataChangePollInterval = Duration.ofSeconds(1);
+
+    /**
+     * The size from which the workflow and task payloads are stored compressed. Set to 0 to store
+     * them as plain json. Compressed payloads can only be read by nodes that support them, so only
+     * enable this once every node does.
+     */
+    private DataSize payloadCompressionThreshold = DataSize.ofBytes(0);
+
     // Maximum number of idle connections to be maintained
     private int maxIdleConnections = 8;
 
@@ -268,6 +313,54 @@ public class RedisProperties {
         this.eventExecutionPersistenceTTL = eventExecutionPersistenceTTL;
     }
 
+    public boolean isWriteBatchingEnabled() {
+        return writeBatchingEnabled;
+    }
+
+    public void setWriteBatchingEnabled(boolean writeBatchingEnabled) {
+        this.writeBatchingEnabled = writeBatchingEnabled;
+    }
+
+    public Duration getPollDataFlushInterval() {
+        return pollDataFlushInterval;
+    }
+
+    public void setPollDataFlushInterval(Duration pollDataFlushInterval) {
+        this.pollDataFlushInterval = pollDataFlushInterval;
+    }
+
+    public Duration getPollDataCacheValidityPeriod() {
+        return pollDataCacheValidityPeriod;
+    }
+
+    public void setPollDataCacheValidityPeriod(Duration pollDataCacheValidityPeriod) {
+        this.pollDataCacheValidityPeriod = pollDataCacheValidityPeriod;
+    }
+
+    public Duration getWorkflowDefCacheValidityPeriod() {
+        return workflowDefCacheValidityPeriod;
+    }
+
+    public void setWorkflowDefCacheValidityPeriod(Duration workflowDefCacheValidityPeriod) {
+        this.workflowDefCacheValidityPeriod = workflowDefCacheValidityPeriod;
+    }
+
+    public Duration getMetadataChangePollInterval() {
+        return metadataChangePollInterval;
+    }
+
+    public void setMetadataChangePollInterval(Duration metadataChangePollInterval) {
+        this.metadataChangePollInterval = metadataChangePollInterval;
+    }
+
+    public DataSize getPayloadCompressionThreshold() {
+        return payloadCompressionThreshold;
+    }
+
+    public void setPayloadCompressionThreshold(DataSize payloadCompressionThreshold) {
+        this.payloadCompressionThreshold = payloadCompressionThreshold;
+    }
+
     public String getQueuePrefix() {
         String prefix = getQueueNamespacePrefix() + "." + conductorProperties.getStack();
         if (getKeyspaceDomain() != null) {
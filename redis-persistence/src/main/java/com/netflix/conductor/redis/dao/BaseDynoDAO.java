@@ -79,7 +79,7 @@ public class BaseDynoDAO {
 
     <T> T readValue(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return objectMapper.readValue(PayloadCodec.decode(json), clazz);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -12,10 +12,13 @@
  */
 package com.netflix.conductor.redis.dao;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -24,8 +27,11 @@ import org.springframework.stereotype.Component;
 
 import com.netflix.conductor.dao.QueueDAO;
 import com.netflix.conductor.redis.config.AnyRedisCondition;
+import com.netflix.conductor.redis.config.RedisProperties;
+import com.netflix.conductor.redis.jedis.JedisProxy;
 import com.netflix.dyno.queues.DynoQueue;
 import com.netflix.dyno.queues.Message;
+import com.netflix.dyno.queues.ShardSupplier;
 import com.netflix.dyno.queues.redis.RedisQueues;
 
 @Component
@@ -33,9 +39,19 @@ import com.netflix.dyno.queues.redis.RedisQueues;
 public class DynoQueueDAO implements QueueDAO {
 
     private final RedisQueues queues;
-
-    public DynoQueueDAO(RedisQueues queues) {
+    private final JedisProxy jedisProxy;
+    private final String queuePrefix;
+    private final List<String> queueShards;
+
+    public DynoQueueDAO(
+            RedisQueues queues,
+            JedisProxy jedisProxy,
+            ShardSupplier shardSupplier,
+            RedisProperties properties) {
         this.queues = queues;
+        this.jedisProxy = jedisProxy;
+        this.queuePrefix = properties.getQueuePrefix();
+        this.queueShards = new ArrayList<>(shardSupplier.getQueueShards());
     }
 
     @Override
@@ -124,6 +140,29 @@ public class DynoQueueDAO implements QueueDAO {
         return queues.get(queueName).ack(messageId);
     }
 
+    /**
+     * Acks the messages with one pipelined round-trip per shard and a single HDEL, where {@link
+     * DynoQueue#ack(List)} acks them one by one, with a ZREM per shard and an HDEL per message. As
+     * there, only the messages removed from an unack set are deleted.
+     */
+    @Override
+    public void ack(String queueName, List<String> messageIds) {
+        List<String> unacked = new ArrayList<>(messageIds);
+        List<String> acked = new ArrayList<>();
+        for (String shard : queueShards) {
+            if (unacked.isEmpty()) {
+                break;
+            }
+            List<String> removed =
+                    jedisProxy.zremEach(queuePrefix + ".UNACK." + queueName + "." + shard, unacked);
+            acked.addAll(removed);
+            unacked.removeAll(new HashSet<>(removed));
+        }
+        if (!acked.isEmpty()) {
+            jedisProxy.hdel(queuePrefix + ".MESSAGE." + queueName, acked.toArray(new String[0]));
+        }
+    }
+
     @Override
     public boolean setUnackTimeout(String queueName, String messageId, long timeout) {
         return queues.get(queueName).setUnackTimeout(messageId, timeout);
@@ -165,4 +204,25 @@ public class DynoQueueDAO implements QueueDAO {
         Message message = queue.get(messageId);
         return Objects.nonNull(message);
     }
+
+    /**
+     * Looks the messages up with one HMGET on the hash holding the messages of the queue, which
+     * {@link DynoQueue#get(String)} reads one field at a time.
+     */
+    @Override
+    public Set<String> containsMessages(String queueName, List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<String> messages =
+                jedisProxy.hmget(
+                        queuePrefix + ".MESSAGE." + queueName, messageIds.toArray(new String[0]));
+        Set<String> queuedIds = new HashSet<>();
+        for (int i = 0; i < messageIds.size(); i++) {
+            if (messages.get(i) != null) {
+                queuedIds.add(messageIds.get(i));
+            }
+        }
+        return queuedIds;
+    }
 }
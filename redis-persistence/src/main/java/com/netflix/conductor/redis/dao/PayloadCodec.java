@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes the json payloads stored in redis. Payloads of at least the compression threshold are
+ * deflated and stored base64 encoded behind a format marker, as the redis client only stores
+ * strings. Payloads without a marker, e.g. the ones stored before compression was enabled, are
+ * plain json.
+ */
+class PayloadCodec {
+
+    /** Marks a deflated, base64 encoded payload. Json never starts with '~'. */
+    static final String DEFLATE_V1 = "~1";
+
+    private final long compressionThreshold;
+
+    /**
+     * @param compressionThreshold the payload size from which payloads are compressed, 0 to never
+     *     compress them
+     */
+    PayloadCodec(long compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @return the value to store for the json, compressed if that makes it shorter
+     */
+    String encode(String json) {
+        if (compressionThreshold <= 0 || json.length() < compressionThreshold) {
+            return json;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 4);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(deflated, deflater)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        String encoded = DEFLATE_V1 + Base64.getEncoder().encodeToString(deflated.toByteArray());
+        return encoded.length() < json.length() ? encoded : json;
+    }
+
+    /**
+     * @return the json of a stored value, compressed or not
+     */
+    static String decode(String value) {
+        if (!value.startsWith(DEFLATE_V1)) {
+            return value;
+        }
+        byte[] deflated = Base64.getDecoder().decode(value.substring(DEFLATE_V1.length()));
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflated))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
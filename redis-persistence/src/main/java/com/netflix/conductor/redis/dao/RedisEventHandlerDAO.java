@@ -16,6 +16,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,12 +47,28 @@ public class RedisEventHandlerDAO extends BaseDynoDAO implements EventHandlerDAO
     private static final String EVENT_HANDLERS = "EVENT_HANDLERS";
     private static final String EVENT_HANDLERS_BY_EVENT = "EVENT_HANDLERS_BY_EVENT";
 
+    private final RedisMetadataChangeNotifier changeNotifier;
+
+    /**
+     * The handlers of each event, active or not. Only kept when the changes made through other
+     * nodes are picked up, and cleared on any handler change since a handler can move to another
+     * event.
+     */
+    private final Map<String, List<EventHandler>> eventHandlersCache = new ConcurrentHashMap<>();
+
+    /** Incremented on every clear, so that a read started before it is not cached. */
+    private final AtomicLong eventHandlersCacheGeneration = new AtomicLong();
+
     public RedisEventHandlerDAO(
             JedisProxy jedisProxy,
             ObjectMapper objectMapper,
             ConductorProperties conductorProperties,
-            RedisProperties properties) {
+            RedisProperties properties,
+            RedisMetadataChangeNotifier changeNotifier) {
         super(jedisProxy, objectMapper, conductorProperties, properties);
+        this.changeNotifier = changeNotifier;
+        changeNotifier.addListener(
+                RedisMetadataChangeNotifier.EVENT_HANDLER, name -> clearEventHandlersCache());
     }
 
     @Override
@@ -62,6 +81,7 @@ public class RedisEventHandlerDAO extends BaseDynoDAO implements EventHandlerDAO
         index(eventHandler);
         jedisProxy.hset(nsKey(EVENT_HANDLERS), eventHandler.getName(), toJson(eventHandler));
         recordRedisDaoRequests("addEventHandler");
+        onEventHandlerChanged(eventHandler.getName());
     }
 
     @Override
@@ -75,6 +95,7 @@ public class RedisEventHandlerDAO extends BaseDynoDAO implements EventHandlerDAO
         index(eventHandler);
         jedisProxy.hset(nsKey(EVENT_HANDLERS), eventHandler.getName(), toJson(eventHandler));
         recordRedisDaoRequests("updateEventHandler");
+        onEventHandlerChanged(eventHandler.getName());
     }
 
     @Override
@@ -86,6 +107,17 @@ public class RedisEventHandlerDAO extends BaseDynoDAO implements EventHandlerDAO
         jedisProxy.hdel(nsKey(EVENT_HANDLERS), name);
         recordRedisDaoRequests("removeEventHandler");
         removeIndex(existing);
+        onEventHandlerChanged(name);
+    }
+
+    private void onEventHandlerChanged(String name) {
+        clearEventHandlersCache();
+        changeNotifier.publish(RedisMetadataChangeNotifier.EVENT_HANDLER, name);
+    }
+
+    private void clearEventHandlersCache() {
+        eventHandlersCacheGeneration.incrementAndGet();
+        eventHandlersCache.clear();
     }
 
     @Override
@@ -115,6 +147,25 @@ public class RedisEventHandlerDAO extends BaseDynoDAO implements EventHandlerDAO
 
     @Override
     public List<EventHandler> getEventHandlersForEvent(String event, boolean activeOnly) {
+        if (!changeNotifier.isEnabled()) {
+            return getEventHandlersFromDB(event, activeOnly);
+        }
+        List<EventHandler> handlers = eventHandlersCache.get(event);
+        if (handlers == null) {
+            long generation = eventHandlersCacheGeneration.get();
+            handlers = getEventHandlersFromDB(event, false);
+            eventHandlersCache.put(event, handlers);
+            if (generation != eventHandlersCacheGeneration.get()) {
+                // a handler was changed while reading
+                eventHandlersCache.remove(event);
+            }
+        }
+        return handlers.stream()
+                .filter(eventHandler -> !activeOnly || eventHandler.isActive())
+                .collect(Collectors.toList());
+    }
+
+    private List<EventHandler> getEventHandlersFromDB(String event, boolean activeOnly) {
         String key = nsKey(EVENT_HANDLERS_BY_EVENT, event);
         Set<String> names = jedisProxy.smembers(key);
         List<EventHandler> handlers = new LinkedList<>();
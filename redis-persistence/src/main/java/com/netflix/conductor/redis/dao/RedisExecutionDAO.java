@@ -33,7 +33,9 @@ import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.model.WorkflowModel;
 import com.netflix.conductor.redis.config.AnyRedisCondition;
 import com.netflix.conductor.redis.config.RedisProperties;
+import com.netflix.conductor.redis.jedis.JedisMutation;
 import com.netflix.conductor.redis.jedis.JedisProxy;
+import com.netflix.conductor.redis.jedis.JedisScript;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
@@ -59,7 +61,39 @@ public class RedisExecutionDAO extends BaseDynoDAO
     private static final String WORKFLOW_DEF_TO_WORKFLOWS = "WORKFLOW_DEF_TO_WORKFLOWS";
     private static final String CORR_ID_TO_WORKFLOWS = "CORR_ID_TO_WORKFLOWS";
     private static final String EVENT_EXECUTION = "EVENT_EXECUTION";
+
+    /**
+     * The checks of {@link #exceedsLimit(TaskModel)} in one step. KEYS: the tasks in progress and
+     * the limit bucket of the task definition. ARGV: the task id, the current time and the limit.
+     * Returns {0, current} if the task may run, {1, current} if too many tasks are in progress and
+     * {2, current} if the task is not among the first ones of the bucket, whose entries no longer
+     * in progress are then removed.
+     */
+    private static final JedisScript CONCURRENCY_LIMIT_SCRIPT =
+            new JedisScript(
+                    "local current = redis.call('SCARD', KEYS[1])\n"
+                            + "local limit = tonumber(ARGV[3])\n"
+                            + "if current >= limit then\n"
+                            + "  return {1, current}\n"
+                            + "end\n"
+                            + "redis.call('ZADD', KEYS[2], 'NX', ARGV[2], ARGV[1])\n"
+                            + "local ids = redis.call('ZRANGEBYSCORE', KEYS[2], 0,"
+                            + " tonumber(ARGV[2]) + 1, 'LIMIT', 0, limit)\n"
+                            + "for _, id in ipairs(ids) do\n"
+                            + "  if id == ARGV[1] then\n"
+                            + "    return {0, current}\n"
+                            + "  end\n"
+                            + "end\n"
+                            + "for _, id in ipairs(ids) do\n"
+                            + "  if redis.call('SISMEMBER', KEYS[1], id) == 0 then\n"
+                            + "    redis.call('ZREM', KEYS[2], id)\n"
+                            + "  end\n"
+                            + "end\n"
+                            + "return {2, current}\n");
+
     private final int ttlEventExecutionSeconds;
+    private final boolean writeBatchingEnabled;
+    private final PayloadCodec payloadCodec;
 
     public RedisExecutionDAO(
             JedisProxy jedisProxy,
@@ -69,6 +103,8 @@ public class RedisExecutionDAO extends BaseDynoDAO
         super(jedisProxy, objectMapper, conductorProperties, properties);
 
         ttlEventExecutionSeconds = (int) properties.getEventExecutionPersistenceTTL().getSeconds();
+        writeBatchingEnabled = properties.isWriteBatchingEnabled();
+        payloadCodec = new PayloadCodec(properties.getPayloadCompressionThreshold().toBytes());
     }
 
     private static String dateStr(Long timeInMs) {
@@ -175,7 +211,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
                     task.getTaskType());
 
             String inProgressTaskKey = nsKey(IN_PROGRESS_TASKS, task.getTaskDefName());
-            jedisProxy.sadd(inProgressTaskKey, task.getTaskId());
+            jedisProxy.write(JedisMutation.sadd(inProgressTaskKey, task.getTaskId()));
             LOGGER.debug(
                     "Scheduled task added to IN_PROGRESS_TASKS with inProgressTaskKey: {}, workflowId: {}, taskId: {}, taskType: {} during createTasks",
                     inProgressTaskKey,
@@ -197,8 +233,10 @@ public class RedisExecutionDAO extends BaseDynoDAO
         if (taskDefinition.isPresent() && taskDefinition.get().concurrencyLimit() > 0) {
 
             if (task.getStatus() != null && task.getStatus().equals(TaskModel.Status.IN_PROGRESS)) {
-                jedisProxy.sadd(
-                        nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName()), task.getTaskId());
+                jedisProxy.write(
+                        JedisMutation.sadd(
+                                nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName()),
+                                task.getTaskId()));
                 LOGGER.debug(
                         "Workflow Task added to TASKS_IN_PROGRESS_STATUS with tasksInProgressKey: {}, workflowId: {}, taskId: {}, taskType: {}, taskStatus: {} during updateTask",
                         nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName(), task.getTaskId()),
@@ -207,8 +245,10 @@ public class RedisExecutionDAO extends BaseDynoDAO
                         task.getTaskType(),
                         task.getStatus().name());
             } else {
-                jedisProxy.srem(
-                        nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName()), task.getTaskId());
+                jedisProxy.write(
+                        JedisMutation.srem(
+                                nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName()),
+                                task.getTaskId()));
                 LOGGER.debug(
                         "Workflow Task removed from TASKS_IN_PROGRESS_STATUS with tasksInProgressKey: {}, workflowId: {}, taskId: {}, taskType: {}, taskStatus: {} during updateTask",
                         nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName(), task.getTaskId()),
@@ -217,7 +257,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
                         task.getTaskType(),
                         task.getStatus().name());
                 String key = nsKey(TASK_LIMIT_BUCKET, task.getTaskDefName());
-                jedisProxy.zrem(key, task.getTaskId());
+                jedisProxy.write(JedisMutation.zrem(key, task.getTaskId()));
                 LOGGER.debug(
                         "Workflow Task removed from TASK_LIMIT_BUCKET with taskLimitBucketKey: {}, workflowId: {}, taskId: {}, taskType: {}, taskStatus: {} during updateTask",
                         key,
@@ -228,7 +268,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
             }
         }
 
-        String payload = toJson(task);
+        String payload = payloadCodec.encode(toJson(task));
         recordRedisDaoPayloadSize(
                 "updateTask",
                 payload.length(),
@@ -236,7 +276,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
                 task.getWorkflowType());
 
         recordRedisDaoRequests("updateTask", task.getTaskType(), task.getWorkflowType());
-        jedisProxy.set(nsKey(TASK, task.getTaskId()), payload);
+        jedisProxy.write(JedisMutation.set(nsKey(TASK, task.getTaskId()), payload));
         LOGGER.debug(
                 "Workflow task payload saved to TASK with taskKey: {}, workflowId: {}, taskId: {}, taskType: {} during updateTask",
                 nsKey(TASK, task.getTaskId()),
@@ -244,7 +284,9 @@ public class RedisExecutionDAO extends BaseDynoDAO
                 task.getTaskId(),
                 task.getTaskType());
         if (task.getStatus() != null && task.getStatus().isTerminal()) {
-            jedisProxy.srem(nsKey(IN_PROGRESS_TASKS, task.getTaskDefName()), task.getTaskId());
+            jedisProxy.write(
+                    JedisMutation.srem(
+                            nsKey(IN_PROGRESS_TASKS, task.getTaskDefName()), task.getTaskId()));
             LOGGER.debug(
                     "Workflow Task removed from TASKS_IN_PROGRESS_STATUS with tasksInProgressKey: {}, workflowId: {}, taskId: {}, taskType: {}, taskStatus: {} during updateTask",
                     nsKey(IN_PROGRESS_TASKS, task.getTaskDefName()),
@@ -254,11 +296,9 @@ public class RedisExecutionDAO extends BaseDynoDAO
                     task.getStatus().name());
         }
 
-        Set<String> taskIds =
-                jedisProxy.smembers(nsKey(WORKFLOW_TO_TASKS, task.getWorkflowInstanceId()));
-        if (!taskIds.contains(task.getTaskId())) {
-            correlateTaskToWorkflowInDS(task.getTaskId(), task.getWorkflowInstanceId());
-        }
+        // SADD is idempotent, so correlating unconditionally is cheaper than reading the whole
+        // task id set of the workflow to check for membership first
+        correlateTaskToWorkflowInDS(task.getTaskId(), task.getWorkflowInstanceId());
     }
 
     @Override
@@ -272,6 +312,12 @@ public class RedisExecutionDAO extends BaseDynoDAO
             return false;
         }
 
+        String inProgressKey = nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName());
+        String rateLimitKey = nsKey(TASK_LIMIT_BUCKET, task.getTaskDefName());
+        if (jedisProxy.canEval(List.of(inProgressKey, rateLimitKey))) {
+            return exceedsLimitInScript(task, limit, inProgressKey, rateLimitKey);
+        }
+
         long current = getInProgressTaskCount(task.getTaskDefName());
         if (current >= limit) {
             LOGGER.info(
@@ -284,7 +330,6 @@ public class RedisExecutionDAO extends BaseDynoDAO
             return true;
         }
 
-        String rateLimitKey = nsKey(TASK_LIMIT_BUCKET, task.getTaskDefName());
         double score = System.currentTimeMillis();
         String taskId = task.getTaskId();
         jedisProxy.zaddnx(rateLimitKey, score, taskId);
@@ -299,7 +344,6 @@ public class RedisExecutionDAO extends BaseDynoDAO
                     task.getTaskDefName(),
                     limit,
                     current);
-            String inProgressKey = nsKey(TASKS_IN_PROGRESS_STATUS, task.getTaskDefName());
             // Cleanup any items that are still present in the rate limit bucket but not in progress
             // anymore!
             ids.stream()
@@ -310,6 +354,38 @@ public class RedisExecutionDAO extends BaseDynoDAO
         return rateLimited;
     }
 
+    /** Runs the checks of {@link #exceedsLimit(TaskModel)} as one script on the server. */
+    @SuppressWarnings("unchecked")
+    private boolean exceedsLimitInScript(
+            TaskModel task, int limit, String inProgressKey, String rateLimitKey) {
+        recordRedisDaoRequests("checkTaskRateLimiting", task.getTaskType(), task.getWorkflowType());
+        List<Long> reply =
+                (List<Long>)
+                        jedisProxy.eval(
+                                CONCURRENCY_LIMIT_SCRIPT,
+                                List.of(inProgressKey, rateLimitKey),
+                                List.of(
+                                        task.getTaskId(),
+                                        String.valueOf(System.currentTimeMillis()),
+                                        String.valueOf(limit)));
+        long result = reply.get(0);
+        if (result == 0) {
+            return false;
+        }
+        LOGGER.info(
+                "Task execution count limited. task - {}:{}, limit: {}, current: {}",
+                task.getTaskId(),
+                task.getTaskDefName(),
+                limit,
+                reply.get(1));
+        if (result == 1) {
+            Monitors.recordTaskConcurrentExecutionLimited(task.getTaskDefName(), limit);
+        } else {
+            Monitors.recordTaskRateLimited(task.getTaskDefName(), limit);
+        }
+        return true;
+    }
+
     private void removeTaskMappings(TaskModel task) {
         String taskKey = task.getReferenceTaskName() + "" + task.getRetryCount();
 
@@ -367,7 +443,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
                                     "getTask", task.getTaskType(), task.getWorkflowType());
                             recordRedisDaoPayloadSize(
                                     "getTask",
-                                    toJson(task).length(),
+                                    json.length(),
                                     task.getTaskType(),
                                     task.getWorkflowType());
                             return task;
@@ -377,9 +453,9 @@ public class RedisExecutionDAO extends BaseDynoDAO
 
     @Override
     public List<TaskModel> getTasks(List<String> taskIds) {
-        return taskIds.stream()
-                .map(taskId -> nsKey(TASK, taskId))
-                .map(jedisProxy::get)
+        List<String> taskKeys =
+                taskIds.stream().map(taskId -> nsKey(TASK, taskId)).collect(Collectors.toList());
+        return jedisProxy.mget(taskKeys).stream()
                 .filter(Objects::nonNull)
                 .map(
                         jsonString -> {
@@ -583,6 +659,28 @@ public class RedisExecutionDAO extends BaseDynoDAO
         return false;
     }
 
+    @Override
+    public void startBatch() {
+        if (writeBatchingEnabled) {
+            jedisProxy.startBatch();
+        }
+    }
+
+    @Override
+    public void flushBatch() {
+        jedisProxy.flushBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        jedisProxy.endBatch();
+    }
+
+    @Override
+    public void discardBatch() {
+        jedisProxy.discardBatch();
+    }
+
     /**
      * Inserts a new workflow/ updates an existing workflow in the datastore. Additionally, if a
      * workflow is in terminal state, it is removed from the set of pending workflows.
@@ -597,9 +695,9 @@ public class RedisExecutionDAO extends BaseDynoDAO
         List<TaskModel> tasks = workflow.getTasks();
         workflow.setTasks(new LinkedList<>());
 
-        String payload = toJson(workflow);
+        String payload = payloadCodec.encode(toJson(workflow));
         // Store the workflow object
-        jedisProxy.set(nsKey(WORKFLOW, workflow.getWorkflowId()), payload);
+        jedisProxy.write(JedisMutation.set(nsKey(WORKFLOW, workflow.getWorkflowId()), payload));
         recordRedisDaoRequests("storeWorkflow", "n/a", workflow.getWorkflowName());
         recordRedisDaoPayloadSize(
                 "storeWorkflow", payload.length(), "n/a", workflow.getWorkflowName());
@@ -610,21 +708,21 @@ public class RedisExecutionDAO extends BaseDynoDAO
                             WORKFLOW_DEF_TO_WORKFLOWS,
                             workflow.getWorkflowName(),
                             dateStr(workflow.getCreateTime()));
-            jedisProxy.sadd(key, workflow.getWorkflowId());
+            jedisProxy.write(JedisMutation.sadd(key, workflow.getWorkflowId()));
             if (workflow.getCorrelationId() != null) {
                 // Add to list of workflows for a correlationId
-                jedisProxy.sadd(
-                        nsKey(CORR_ID_TO_WORKFLOWS, workflow.getCorrelationId()),
-                        workflow.getWorkflowId());
+                jedisProxy.write(
+                        JedisMutation.sadd(
+                                nsKey(CORR_ID_TO_WORKFLOWS, workflow.getCorrelationId()),
+                                workflow.getWorkflowId()));
             }
         }
         // Add or remove from the pending workflows
+        String pendingWorkflowsKey = nsKey(PENDING_WORKFLOWS, workflow.getWorkflowName());
         if (workflow.getStatus().isTerminal()) {
-            jedisProxy.srem(
-                    nsKey(PENDING_WORKFLOWS, workflow.getWorkflowName()), workflow.getWorkflowId());
+            jedisProxy.write(JedisMutation.srem(pendingWorkflowsKey, workflow.getWorkflowId()));
         } else {
-            jedisProxy.sadd(
-                    nsKey(PENDING_WORKFLOWS, workflow.getWorkflowName()), workflow.getWorkflowId());
+            jedisProxy.write(JedisMutation.sadd(pendingWorkflowsKey, workflow.getWorkflowId()));
         }
 
         workflow.setTasks(tasks);
@@ -640,7 +738,7 @@ public class RedisExecutionDAO extends BaseDynoDAO
     @VisibleForTesting
     void correlateTaskToWorkflowInDS(String taskId, String workflowInstanceId) {
         String workflowToTaskKey = nsKey(WORKFLOW_TO_TASKS, workflowInstanceId);
-        jedisProxy.sadd(workflowToTaskKey, taskId);
+        jedisProxy.write(JedisMutation.sadd(workflowToTaskKey, taskId));
         LOGGER.debug(
                 "Task mapped in WORKFLOW_TO_TASKS with workflowToTaskKey: {}, workflowId: {}, taskId: {}",
                 workflowToTaskKey,
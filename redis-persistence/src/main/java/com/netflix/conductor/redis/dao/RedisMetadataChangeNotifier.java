@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import com.netflix.conductor.core.config.ConductorProperties;
+import com.netflix.conductor.metrics.Monitors;
+import com.netflix.conductor.redis.config.AnyRedisCondition;
+import com.netflix.conductor.redis.config.RedisProperties;
+import com.netflix.conductor.redis.jedis.JedisProxy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Tells every node which metadata definitions were changed, so that they update only those in their
+ * caches.
+ *
+ * <p>A change increments the version of the definition in one hash, then a counter of all changes.
+ * The nodes read the counter periodically, and the hash only when the counter has moved, to find
+ * the definitions whose version differs from the one they last saw.
+ */
+@Component
+@Conditional(AnyRedisCondition.class)
+public class RedisMetadataChangeNotifier extends BaseDynoDAO {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedisMetadataChangeNotifier.class);
+
+    public static final String TASK_DEF = "TASK_DEF";
+    public static final String WORKFLOW_DEF = "WORKFLOW_DEF";
+    public static final String EVENT_HANDLER = "EVENT_HANDLER";
+
+    // Keys Families
+    private static final String METADATA_CHANGES = "METADATA_CHANGES";
+    private static final String METADATA_CHANGE_COUNT = "METADATA_CHANGE_COUNT";
+    private static final String SEPARATOR = ":";
+    private static final String className = RedisMetadataChangeNotifier.class.getSimpleName();
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    /** The last seen version of the changed definitions, by type and name. */
+    private final Map<String, String> knownVersions = new HashMap<>();
+
+    private String knownChangeCount;
+    private final ScheduledExecutorService pollExecutor;
+
+    public RedisMetadataChangeNotifier(
+            JedisProxy jedisProxy,
+            ObjectMapper objectMapper,
+            ConductorProperties conductorProperties,
+            RedisProperties properties) {
+        super(jedisProxy, objectMapper, conductorProperties, properties);
+        long pollIntervalMs = properties.getMetadataChangePollInterval().toMillis();
+        if (pollIntervalMs > 0) {
+            // the caches are loaded after this, so the changes made until now are already seen
+            readChanges();
+            this.pollExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "metadata-change-poller");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            pollExecutor.scheduleWithFixedDelay(
+                    this::pollChanges, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.pollExecutor = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true if the changes made through other nodes are picked up, so the caches can keep
+     *     their entries until they are told otherwise
+     */
+    public boolean isEnabled() {
+        return pollExecutor != null;
+    }
+
+    /**
+     * Registers a listener that is called with the name of every definition of the type that was
+     * changed through another node.
+     */
+    public void addListener(String type, Consumer<String> listener) {
+        listeners.computeIfAbsent(type, __ -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /** Tells the other nodes that the definition was created, updated or removed. */
+    public void publish(String type, String name) {
+        String field = type + SEPARATOR + name;
+        long version = jedisProxy.hincrBy(nsKey(METADATA_CHANGES), field, 1);
+        jedisProxy.incr(nsKey(METADATA_CHANGE_COUNT));
+        recordRedisDaoRequests("publishMetadataChange");
+
+        synchronized (this) {
+            // the node made the change itself, unless another node changed it in between
+            if (String.valueOf(version - 1).equals(knownVersions.getOrDefault(field, "0"))) {
+                knownVersions.put(field, String.valueOf(version));
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void pollChanges() {
+        try {
+            Map<String, String> changed = readChanges();
+            changed.forEach(
+                    (field, version) -> {
+                        String type = field.substring(0, field.indexOf(SEPARATOR));
+                        String name = field.substring(field.indexOf(SEPARATOR) + 1);
+                        LOGGER.debug("{} {} changed to version {}", type, name, version);
+                        for (Consumer<String> listener : listeners.getOrDefault(type, List.of())) {
+                            try {
+                                listener.accept(name);
+                            } catch (Exception e) {
+                                Monitors.error(className, "metadataChangeListener");
+                                LOGGER.error("Unable to apply change of {} {}", type, name, e);
+                            }
+                        }
+                    });
+        } catch (Exception e) {
+            Monitors.error(className, "pollChanges");
+            LOGGER.error("Unable to read the metadata changes", e);
+        }
+    }
+
+    /**
+     * @return the definitions whose version changed since the last read, by type and name
+     */
+    private synchronized Map<String, String> readChanges() {
+        // read the counter first, the versions of the changes it counts are already stored
+        String changeCount = jedisProxy.get(nsKey(METADATA_CHANGE_COUNT));
+        recordRedisDaoRequests("getMetadataChangeCount");
+        if (Objects.equals(changeCount, knownChangeCount)) {
+            return Map.of();
+        }
+        Map<String, String> versions = jedisProxy.hgetAll(nsKey(METADATA_CHANGES));
+        recordRedisDaoRequests("getMetadataChanges");
+
+        Map<String, String> changed = new HashMap<>();
+        versions.forEach(
+                (field, version) -> {
+                    if (!version.equals(knownVersions.put(field, version))) {
+                        changed.put(field, version);
+                    }
+                });
+        knownChangeCount = changeCount;
+        return changed;
+    }
+}
@@ -20,10 +20,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Conditional;
@@ -42,6 +44,7 @@ import com.netflix.conductor.redis.config.RedisProperties;
 import com.netflix.conductor.redis.jedis.JedisProxy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
 import static com.netflix.conductor.common.metadata.tasks.TaskDef.ONE_HOUR;
@@ -58,14 +61,41 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
     private static final String WORKFLOW_DEF = "WORKFLOW_DEF";
     private static final String LATEST = "latest";
     private static final String className = RedisMetadataDAO.class.getSimpleName();
-    private Map<String, TaskDef> taskDefCache = new HashMap<>();
+    private static final String WORKFLOW_DEF_CACHE = "workflowDef";
+    private static final String LATEST_VERSION_CACHE = "workflowDefLatestVersion";
+    private final Map<String, TaskDef> taskDefCache = new ConcurrentHashMap<>();
+
+    /**
+     * Held while task definitions are read from Redis and written to the cache, so that a full
+     * refresh cannot overwrite a newer definition applied in between with its older read.
+     */
+    private final Object taskDefCacheLock = new Object();
+
+    private final long workflowDefCacheValidityMs;
+    private final RedisMetadataChangeNotifier changeNotifier;
+
+    /**
+     * The workflow definitions read or written by this node, as json, by name and version. The json
+     * is kept rather than the definition so that every caller gets its own copy to modify.
+     */
+    private final Map<ImmutablePair<String, Integer>, CachedValue<String>> workflowDefCache =
+            new ConcurrentHashMap<>();
+
+    /** The latest version of the workflow definitions, by name. */
+    private final Map<String, CachedValue<Integer>> latestVersionCache = new ConcurrentHashMap<>();
 
     public RedisMetadataDAO(
             JedisProxy jedisProxy,
             ObjectMapper objectMapper,
             ConductorProperties conductorProperties,
-            RedisProperties properties) {
+            RedisProperties properties,
+            RedisMetadataChangeNotifier changeNotifier) {
         super(jedisProxy, objectMapper, conductorProperties, properties);
+        this.workflowDefCacheValidityMs = properties.getWorkflowDefCacheValidityPeriod().toMillis();
+        this.changeNotifier = changeNotifier;
+        changeNotifier.addListener(RedisMetadataChangeNotifier.TASK_DEF, this::refreshTaskDef);
+        changeNotifier.addListener(
+                RedisMetadataChangeNotifier.WORKFLOW_DEF, this::invalidateWorkflowDef);
         refreshTaskDefs();
         long cacheRefreshTime = properties.getTaskDefCacheRefreshInterval().getSeconds();
         Executors.newSingleThreadScheduledExecutor()
@@ -92,16 +122,33 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
         jedisProxy.hset(nsKey(ALL_TASK_DEFS), taskDef.getName(), payload);
         recordRedisDaoRequests("storeTaskDef");
         recordRedisDaoPayloadSize("storeTaskDef", payload.length(), taskDef.getName(), "n/a");
-        refreshTaskDefs();
+        refreshTaskDef(taskDef.getName());
+        changeNotifier.publish(RedisMetadataChangeNotifier.TASK_DEF, taskDef.getName());
         return taskDef;
     }
 
-    private void refreshTaskDefs() {
+    /** Reloads the task definition, or drops it from the cache if it was removed. */
+    private void refreshTaskDef(String name) {
+        synchronized (taskDefCacheLock) {
+            TaskDef taskDef = getTaskDefFromDB(name);
+            if (taskDef == null) {
+                taskDefCache.remove(name);
+            } else {
+                taskDefCache.put(name, taskDef);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void refreshTaskDefs() {
         try {
-            Map<String, TaskDef> map = new HashMap<>();
-            getAllTaskDefs().forEach(taskDef -> map.put(taskDef.getName(), taskDef));
-            this.taskDefCache = map;
-            LOGGER.debug("Refreshed task defs " + this.taskDefCache.size());
+            synchronized (taskDefCacheLock) {
+                Map<String, TaskDef> taskDefs = new HashMap<>();
+                getAllTaskDefs().forEach(taskDef -> taskDefs.put(taskDef.getName(), taskDef));
+                taskDefCache.keySet().retainAll(taskDefs.keySet());
+                taskDefCache.putAll(taskDefs);
+            }
+            LOGGER.debug("Refreshed task defs " + taskDefCache.size());
         } catch (Exception e) {
             Monitors.error(className, "refreshTaskDefs");
             LOGGER.error("refresh TaskDefs failed ", e);
@@ -165,7 +212,10 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
             throw new NotFoundException("Cannot remove the task - no such task definition");
         }
         recordRedisDaoRequests("removeTaskDef");
-        refreshTaskDefs();
+        synchronized (taskDefCacheLock) {
+            taskDefCache.remove(name);
+        }
+        changeNotifier.publish(RedisMetadataChangeNotifier.TASK_DEF, name);
     }
 
     @Override
@@ -190,19 +240,25 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
      */
     public Optional<WorkflowDef> getLatestWorkflowDef(String name) {
         Preconditions.checkNotNull(name, "WorkflowDef name cannot be null");
-        WorkflowDef workflowDef = null;
 
-        Optional<Integer> optionalMaxVersion = getWorkflowMaxVersion(name);
-
-        if (optionalMaxVersion.isPresent()) {
-            String latestdata =
-                    jedisProxy.hget(nsKey(WORKFLOW_DEF, name), optionalMaxVersion.get().toString());
-            if (latestdata != null) {
-                workflowDef = readValue(latestdata, WorkflowDef.class);
+        Integer cachedVersion = getCached(latestVersionCache, name, LATEST_VERSION_CACHE);
+        if (cachedVersion != null) {
+            Optional<WorkflowDef> workflowDef = getWorkflowDef(name, cachedVersion);
+            if (workflowDef.isPresent()) {
+                return workflowDef;
             }
+            // the cached version was removed by another node
+            latestVersionCache.remove(name);
         }
 
-        return Optional.ofNullable(workflowDef);
+        Optional<Integer> optionalMaxVersion = getWorkflowMaxVersion(name);
+        if (optionalMaxVersion.isEmpty()) {
+            return Optional.empty();
+        }
+        if (workflowDefCacheValidityMs > 0) {
+            latestVersionCache.put(name, new CachedValue<>(optionalMaxVersion.get()));
+        }
+        return getWorkflowDef(name, optionalMaxVersion.get());
     }
 
     private Optional<Integer> getWorkflowMaxVersion(String workflowName) {
@@ -235,17 +291,40 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
     @Override
     public Optional<WorkflowDef> getWorkflowDef(String name, int version) {
         Preconditions.checkNotNull(name, "WorkflowDef name cannot be null");
-        WorkflowDef def = null;
-
-        recordRedisDaoRequests("getWorkflowDef");
-        String workflowDefJsonString =
-                jedisProxy.hget(nsKey(WORKFLOW_DEF, name), String.valueOf(version));
-        if (workflowDefJsonString != null) {
-            def = readValue(workflowDefJsonString, WorkflowDef.class);
+        ImmutablePair<String, Integer> key = new ImmutablePair<>(name, version);
+
+        String workflowDefJsonString = getCached(workflowDefCache, key, WORKFLOW_DEF_CACHE);
+        if (workflowDefJsonString == null) {
+            recordRedisDaoRequests("getWorkflowDef");
+            workflowDefJsonString =
+                    jedisProxy.hget(nsKey(WORKFLOW_DEF, name), String.valueOf(version));
+            if (workflowDefJsonString == null) {
+                return Optional.empty();
+            }
             recordRedisDaoPayloadSize(
                     "getWorkflowDef", workflowDefJsonString.length(), "n/a", name);
+            if (workflowDefCacheValidityMs > 0) {
+                workflowDefCache.put(key, new CachedValue<>(workflowDefJsonString));
+            }
+        }
+        return Optional.of(readValue(workflowDefJsonString, WorkflowDef.class));
+    }
+
+    /**
+     * @return the cached value if it is still valid, or null
+     */
+    private <K, V> V getCached(Map<K, CachedValue<V>> cache, K key, String cacheName) {
+        if (workflowDefCacheValidityMs <= 0) {
+            return null;
+        }
+        CachedValue<V> cached = cache.get(key);
+        if (cached != null
+                && System.currentTimeMillis() - cached.cachedTime < workflowDefCacheValidityMs) {
+            Monitors.recordCacheHit(cacheName);
+            return cached.value;
         }
-        return Optional.ofNullable(def);
+        Monitors.recordCacheMiss(cacheName);
+        return null;
     }
 
     @Override
@@ -259,6 +338,9 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
                     "Cannot remove the workflow - no such workflow" + " definition: %s version: %d",
                     name, version);
         }
+        workflowDefCache.remove(new ImmutablePair<>(name, version));
+        latestVersionCache.remove(name);
+        changeNotifier.publish(RedisMetadataChangeNotifier.WORKFLOW_DEF, name);
 
         // check if there are any more versions remaining if not delete the
         // workflow name
@@ -345,12 +427,37 @@ public class RedisMetadataDAO extends BaseDynoDAO implements MetadataDAO {
 
     private void _createOrUpdate(WorkflowDef workflowDef) {
         // First set the workflow def
+        String payload = toJson(workflowDef);
         jedisProxy.hset(
                 nsKey(WORKFLOW_DEF, workflowDef.getName()),
                 String.valueOf(workflowDef.getVersion()),
-                toJson(workflowDef));
+                payload);
 
         jedisProxy.sadd(nsKey(WORKFLOW_DEF_NAMES), workflowDef.getName());
         recordRedisDaoRequests("storeWorkflowDef", "n/a", workflowDef.getName());
+
+        if (workflowDefCacheValidityMs > 0) {
+            workflowDefCache.put(
+                    new ImmutablePair<>(workflowDef.getName(), workflowDef.getVersion()),
+                    new CachedValue<>(payload));
+        }
+        latestVersionCache.remove(workflowDef.getName());
+        changeNotifier.publish(RedisMetadataChangeNotifier.WORKFLOW_DEF, workflowDef.getName());
+    }
+
+    /** Drops all the versions of the workflow definition from the cache. */
+    private void invalidateWorkflowDef(String name) {
+        workflowDefCache.keySet().removeIf(key -> key.getLeft().equals(name));
+        latestVersionCache.remove(name);
+    }
+
+    private static class CachedValue<V> {
+
+        private final V value;
+        private final long cachedTime = System.currentTimeMillis();
+
+        private CachedValue(V value) {
+            this.value = value;
+        }
     }
 }
@@ -15,26 +15,59 @@ package com.netflix.conductor.redis.dao;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 
 import com.netflix.conductor.common.metadata.tasks.PollData;
 import com.netflix.conductor.core.config.ConductorProperties;
 import com.netflix.conductor.dao.PollDataDAO;
+import com.netflix.conductor.metrics.Monitors;
 import com.netflix.conductor.redis.config.AnyRedisCondition;
 import com.netflix.conductor.redis.config.RedisProperties;
 import com.netflix.conductor.redis.jedis.JedisProxy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
+/**
+ * Stores the poll data in redis. The updates are kept in memory and written on an interval, the
+ * latest update of a task queue and domain replacing the previous ones, and the poll data read is
+ * kept in memory for a short time. Both can be turned off with {@link
+ * RedisProperties#getPollDataFlushInterval()} and {@link
+ * RedisProperties#getPollDataCacheValidityPeriod()}.
+ */
 @Component
 @Conditional(AnyRedisCondition.class)
 public class RedisPollDataDAO extends BaseDynoDAO implements PollDataDAO {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedisPollDataDAO.class);
+
     private static final String POLL_DATA = "POLL_DATA";
+    private static final String className = RedisPollDataDAO.class.getSimpleName();
+
+    private final long flushIntervalMs;
+    private final long cacheValidityMs;
+
+    /** The updates not written yet, by task queue and domain field. */
+    private final Map<ImmutablePair<String, String>, PollData> pendingUpdates =
+            new ConcurrentHashMap<>();
+
+    private final Map<ImmutablePair<String, String>, CachedPollData> pollDataCache =
+            new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flushExecutor;
 
     public RedisPollDataDAO(
             JedisProxy jedisProxy,
@@ -42,30 +75,66 @@ public class RedisPollDataDAO extends BaseDynoDAO implements PollDataDAO {
             ConductorProperties conductorProperties,
             RedisProperties properties) {
         super(jedisProxy, objectMapper, conductorProperties, properties);
+        this.flushIntervalMs = properties.getPollDataFlushInterval().toMillis();
+        this.cacheValidityMs = properties.getPollDataCacheValidityPeriod().toMillis();
+        if (flushIntervalMs > 0) {
+            this.flushExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "poll-data-flush");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            flushExecutor.scheduleWithFixedDelay(
+                    this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushExecutor = null;
+        }
+    }
+
+    /** Writes the pending updates before shutting down. */
+    @PreDestroy
+    public void stop() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            flush();
+        }
     }
 
     @Override
     public void updateLastPollData(String taskDefName, String domain, String workerId) {
         Preconditions.checkNotNull(taskDefName, "taskDefName name cannot be null");
         PollData pollData = new PollData(taskDefName, domain, workerId, System.currentTimeMillis());
-
-        String key = nsKey(POLL_DATA, pollData.getQueueName());
-        String field = (domain == null) ? "DEFAULT" : domain;
-
-        String payload = toJson(pollData);
-        recordRedisDaoRequests("updatePollData");
-        recordRedisDaoPayloadSize("updatePollData", payload.length(), "n/a", "n/a");
-        jedisProxy.hset(key, field, payload);
+        ImmutablePair<String, String> key =
+                new ImmutablePair<>(pollData.getQueueName(), toField(domain));
+        if (cacheValidityMs > 0) {
+            pollDataCache.put(key, new CachedPollData(pollData));
+        }
+        if (flushExecutor != null) {
+            pendingUpdates.put(key, pollData);
+        } else {
+            write(key, pollData);
+        }
     }
 
     @Override
     public PollData getPollData(String taskDefName, String domain) {
         Preconditions.checkNotNull(taskDefName, "taskDefName name cannot be null");
+        ImmutablePair<String, String> key = new ImmutablePair<>(taskDefName, toField(domain));
 
-        String key = nsKey(POLL_DATA, taskDefName);
-        String field = (domain == null) ? "DEFAULT" : domain;
+        PollData pending = pendingUpdates.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        if (cacheValidityMs > 0) {
+            CachedPollData cached = pollDataCache.get(key);
+            if (cached != null
+                    && System.currentTimeMillis() - cached.cachedTime < cacheValidityMs) {
+                return cached.pollData;
+            }
+        }
 
-        String pollDataJsonString = jedisProxy.hget(key, field);
+        String pollDataJsonString = jedisProxy.hget(nsKey(POLL_DATA, taskDefName), key.getRight());
         recordRedisDaoRequests("getPollData");
         recordRedisDaoPayloadSize(
                 "getPollData", StringUtils.length(pollDataJsonString), "n/a", "n/a");
@@ -74,6 +143,9 @@ public class RedisPollDataDAO extends BaseDynoDAO implements PollDataDAO {
         if (StringUtils.isNotBlank(pollDataJsonString)) {
             pollData = readValue(pollDataJsonString, PollData.class);
         }
+        if (cacheValidityMs > 0) {
+            pollDataCache.put(key, new CachedPollData(pollData));
+        }
         return pollData;
     }
 
@@ -86,15 +158,66 @@ public class RedisPollDataDAO extends BaseDynoDAO implements PollDataDAO {
         Map<String, String> pMapdata = jedisProxy.hgetAll(key);
         List<PollData> pollData = new ArrayList<>();
         if (pMapdata != null) {
-            pMapdata.values()
-                    .forEach(
-                            pollDataJsonString -> {
-                                pollData.add(readValue(pollDataJsonString, PollData.class));
-                                recordRedisDaoRequests("getPollData");
-                                recordRedisDaoPayloadSize(
-                                        "getPollData", pollDataJsonString.length(), "n/a", "n/a");
-                            });
+            pMapdata.forEach(
+                    (field, pollDataJsonString) -> {
+                        PollData pending =
+                                pendingUpdates.get(new ImmutablePair<>(taskDefName, field));
+                        if (pending == null) {
+                            pollData.add(readValue(pollDataJsonString, PollData.class));
+                            recordRedisDaoRequests("getPollData");
+                            recordRedisDaoPayloadSize(
+                                    "getPollData", pollDataJsonString.length(), "n/a", "n/a");
+                        }
+                    });
         }
+        // the updates not written yet, including those of new domains
+        pendingUpdates.forEach(
+                (pendingKey, pending) -> {
+                    if (pendingKey.getLeft().equals(taskDefName)) {
+                        pollData.add(pending);
+                    }
+                });
         return pollData;
     }
+
+    /** Writes the pending updates to redis. */
+    @VisibleForTesting
+    void flush() {
+        pendingUpdates.forEach(
+                (key, pollData) -> {
+                    try {
+                        write(key, pollData);
+                        // a newer update received meanwhile is kept for the next flush
+                        pendingUpdates.remove(key, pollData);
+                    } catch (Exception e) {
+                        Monitors.error(className, "flushPollData");
+                        LOGGER.error(
+                                "Error writing the poll data of task: {} in domain: {}",
+                                key.getLeft(),
+                                key.getRight(),
+                                e);
+                    }
+                });
+    }
+
+    private void write(ImmutablePair<String, String> key, PollData pollData) {
+        String payload = toJson(pollData);
+        recordRedisDaoRequests("updatePollData");
+        recordRedisDaoPayloadSize("updatePollData", payload.length(), "n/a", "n/a");
+        jedisProxy.hset(nsKey(POLL_DATA, key.getLeft()), key.getRight(), payload);
+    }
+
+    private String toField(String domain) {
+        return (domain == null) ? "DEFAULT" : domain;
+    }
+
+    private static class CachedPollData {
+
+        private final PollData pollData;
+        private final long cachedTime = System.currentTimeMillis();
+
+        private CachedPollData(PollData pollData) {
+            this.pollData = pollData;
+        }
+    }
 }
@@ -12,6 +12,7 @@
  */
 package com.netflix.conductor.redis.dao;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -28,6 +29,7 @@ import com.netflix.conductor.model.TaskModel;
 import com.netflix.conductor.redis.config.AnyRedisCondition;
 import com.netflix.conductor.redis.config.RedisProperties;
 import com.netflix.conductor.redis.jedis.JedisProxy;
+import com.netflix.conductor.redis.jedis.JedisScript;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -39,6 +41,22 @@ public class RedisRateLimitingDAO extends BaseDynoDAO implements RateLimitingDAO
 
     private static final String TASK_RATE_LIMIT_BUCKET = "TASK_RATE_LIMIT_BUCKET";
 
+    /**
+     * Cleans up, counts and adds to the bucket of KEYS[1] in one step. ARGV: the current time, the
+     * beginning of the frequency, the rate limit, the frequency in seconds and the entry to add.
+     * Returns {1, count after adding} if within the limit, {0, count} otherwise.
+     */
+    private static final JedisScript RATE_LIMIT_SCRIPT =
+            new JedisScript(
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2])\n"
+                            + "local count = redis.call('ZCOUNT', KEYS[1], ARGV[2], ARGV[1])\n"
+                            + "if count < tonumber(ARGV[3]) then\n"
+                            + "  redis.call('ZADD', KEYS[1], ARGV[1], ARGV[5])\n"
+                            + "  redis.call('EXPIRE', KEYS[1], ARGV[4])\n"
+                            + "  return {1, count + 1}\n"
+                            + "end\n"
+                            + "return {0, count}\n");
+
     public RedisRateLimitingDAO(
             JedisProxy jedisProxy,
             ObjectMapper objectMapper,
@@ -69,11 +87,15 @@ public class RedisRateLimitingDAO extends BaseDynoDAO implements RateLimitingDAO
      *       and an expiry TTL is added to the entry
      * </ul>
      *
+     * <p>These steps run as one script on the server when the client supports it, so that
+     * concurrent polls cannot exceed the limit; otherwise they are sent as separate commands.
+     *
      * @param task: which needs to be evaluated whether it is rateLimited or not
      * @return true: If the {@link TaskModel} is rateLimited false: If the {@link TaskModel} is not
      *     rateLimited
      */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean exceedsRateLimitPerFrequency(TaskModel task, TaskDef taskDef) {
         // Check if the TaskDefinition is not null then pick the definition values or else pick from
         // the Task
@@ -109,25 +131,49 @@ public class RedisRateLimitingDAO extends BaseDynoDAO implements RateLimitingDAO
             long currentTimeEpochMinusRateLimitBucket =
                     currentTimeEpochMillis - (rateLimitFrequencyInSeconds * 1000L);
             String key = nsKey(TASK_RATE_LIMIT_BUCKET, task.getTaskDefName());
-            jedisProxy.zremrangeByScore(
-                    key, "-inf", String.valueOf(currentTimeEpochMinusRateLimitBucket));
-            int currentBucketCount =
-                    Math.toIntExact(
-                            jedisProxy.zcount(
-                                    key,
-                                    currentTimeEpochMinusRateLimitBucket,
-                                    currentTimeEpochMillis));
-            if (currentBucketCount < rateLimitPerFrequency) {
-                jedisProxy.zadd(
-                        key, currentTimeEpochMillis, String.valueOf(currentTimeEpochMillis));
-                jedisProxy.expire(key, rateLimitFrequencyInSeconds);
+            // the task id keeps the entries of tasks started in the same millisecond apart
+            String member = currentTimeEpochMillis + "-" + task.getTaskId();
+            boolean withinLimit;
+            int currentBucketCount;
+            if (jedisProxy.canEval(List.of(key))) {
+                List<Long> reply =
+                        (List<Long>)
+                                jedisProxy.eval(
+                                        RATE_LIMIT_SCRIPT,
+                                        List.of(key),
+                                        List.of(
+                                                String.valueOf(currentTimeEpochMillis),
+                                                String.valueOf(
+                                                        currentTimeEpochMinusRateLimitBucket),
+                                                String.valueOf(rateLimitPerFrequency),
+                                                String.valueOf(rateLimitFrequencyInSeconds),
+                                                member));
+                withinLimit = reply.get(0) == 1;
+                currentBucketCount = Math.toIntExact(reply.get(1));
+            } else {
+                jedisProxy.zremrangeByScore(
+                        key, "-inf", String.valueOf(currentTimeEpochMinusRateLimitBucket));
+                currentBucketCount =
+                        Math.toIntExact(
+                                jedisProxy.zcount(
+                                        key,
+                                        currentTimeEpochMinusRateLimitBucket,
+                                        currentTimeEpochMillis));
+                withinLimit = currentBucketCount < rateLimitPerFrequency;
+                if (withinLimit) {
+                    jedisProxy.zadd(key, currentTimeEpochMillis, member);
+                    jedisProxy.expire(key, rateLimitFrequencyInSeconds);
+                    currentBucketCount++;
+                }
+            }
+            if (withinLimit) {
                 LOGGER.info(
                         "TaskId: {} with TaskDefinition of: {} has rateLimitPerFrequency: {} and rateLimitFrequencyInSeconds: {} within the rate limit with current count {}",
                         task.getTaskId(),
                         task.getTaskDefName(),
                         rateLimitPerFrequency,
                         rateLimitFrequencyInSeconds,
-                        ++currentBucketCount);
+                        currentBucketCount);
                 Monitors.recordTaskRateLimited(task.getTaskDefName(), rateLimitPerFrequency);
                 return false;
             } else {
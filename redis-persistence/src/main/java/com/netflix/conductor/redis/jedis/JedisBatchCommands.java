@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.jedis;
+
+import java.util.List;
+
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Multi-key operations that are not part of {@link JedisCommands}. Implemented by the {@link
+ * JedisCommands} wrappers that can serve them in fewer round-trips than one command per key.
+ */
+public interface JedisBatchCommands {
+
+    /**
+     * @param keys the keys to read
+     * @return the values in the same order as the keys, <code>null</code> for missing keys
+     */
+    List<String> mget(String... keys);
+
+    /**
+     * Sends the mutations in order, inside a MULTI/EXEC transaction where the topology allows it.
+     *
+     * @param mutations the writes to send
+     */
+    void write(List<JedisMutation> mutations);
+
+    /**
+     * Removes the members from the sorted set with one ZREM per member, sent in one round-trip, so
+     * that the caller learns which of them the set held.
+     *
+     * @param key the sorted set
+     * @param members the members to remove
+     * @return for each member, in order, whether it was removed
+     */
+    List<Boolean> zremEach(String key, List<String> members);
+
+    /** Throws the first error reply of a batch, as the non-batched command would have. */
+    static void checkReplies(List<Object> replies) {
+        if (replies == null) {
+            return;
+        }
+        for (Object reply : replies) {
+            if (reply instanceof JedisException) {
+                throw (JedisException) reply;
+            }
+        }
+    }
+}
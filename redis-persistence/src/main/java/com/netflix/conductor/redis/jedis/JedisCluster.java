@@ -13,6 +13,10 @@
 package com.netflix.conductor.redis.jedis;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,7 +27,10 @@ import redis.clients.jedis.BitPosParams;
 import redis.clients.jedis.GeoCoordinate;
 import redis.clients.jedis.GeoRadiusResponse;
 import redis.clients.jedis.GeoUnit;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
@@ -35,12 +42,16 @@ import redis.clients.jedis.StreamInfo;
 import redis.clients.jedis.StreamPendingEntry;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
-public class JedisCluster implements JedisCommands {
+public class JedisCluster implements JedisCommands, JedisBatchCommands, JedisScriptCommands {
 
     private final redis.clients.jedis.JedisCluster jedisCluster;
 
@@ -63,6 +74,124 @@ public class JedisCluster implements JedisCommands {
         return jedisCluster.get(key);
     }
 
+    /**
+     * MGET is limited to a single hash slot in a cluster, so the keys are grouped by the node that
+     * owns their slot and read with one pipeline per node instead.
+     */
+    @Override
+    public List<String> mget(String... keys) {
+        String[] values = new String[keys.length];
+        groupByNode(Arrays.asList(keys))
+                .forEach(
+                        (slot, indexes) -> {
+                            List<Response<String>> responses = new ArrayList<>(indexes.size());
+                            try (Jedis jedis = jedisCluster.getConnectionFromSlot(slot)) {
+                                Pipeline pipeline = jedis.pipelined();
+                                indexes.forEach(index -> responses.add(pipeline.get(keys[index])));
+                                pipeline.sync();
+                            }
+                            for (int i = 0; i < indexes.size(); i++) {
+                                int index = indexes.get(i);
+                                try {
+                                    values[index] = responses.get(i).get();
+                                } catch (JedisRedirectionException e) {
+                                    // the slot moved while reading, let the cluster client follow
+                                    values[index] = jedisCluster.get(keys[index]);
+                                }
+                            }
+                        });
+        return Arrays.asList(values);
+    }
+
+    /**
+     * MULTI/EXEC cannot span hash slots in a cluster, so the mutations are sent without a
+     * transaction, with one pipeline per node. The order of the mutations on each key is kept.
+     */
+    @Override
+    public void write(List<JedisMutation> mutations) {
+        List<String> keys =
+                mutations.stream().map(JedisMutation::getKey).collect(Collectors.toList());
+        groupByNode(keys)
+                .forEach(
+                        (slot, indexes) -> {
+                            List<Object> replies;
+                            try (Jedis jedis = jedisCluster.getConnectionFromSlot(slot)) {
+                                Pipeline pipeline = jedis.pipelined();
+                                indexes.forEach(index -> mutations.get(index).apply(pipeline));
+                                replies = pipeline.syncAndReturnAll();
+                            }
+                            for (int i = 0; i < indexes.size(); i++) {
+                                if (replies.get(i) instanceof JedisRedirectionException) {
+                                    // the slot moved while writing, let the cluster client follow
+                                    mutations.get(indexes.get(i)).apply(this);
+                                } else if (replies.get(i) instanceof JedisException) {
+                                    throw (JedisException) replies.get(i);
+                                }
+                            }
+                        });
+    }
+
+    @Override
+    public List<Boolean> zremEach(String key, List<String> members) {
+        List<Response<Long>> responses = new ArrayList<>(members.size());
+        try (Jedis jedis = jedisCluster.getConnectionFromSlot(JedisClusterCRC16.getSlot(key))) {
+            Pipeline pipeline = jedis.pipelined();
+            members.forEach(member -> responses.add(pipeline.zrem(key, member)));
+            pipeline.sync();
+        }
+        List<Boolean> removed = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            try {
+                removed.add(responses.get(i).get() > 0);
+            } catch (JedisRedirectionException e) {
+                // the slot moved while removing, let the cluster client follow
+                removed.add(jedisCluster.zrem(key, members.get(i)) > 0);
+            }
+        }
+        return removed;
+    }
+
+    /** A script can only use keys of a single hash slot in a cluster. */
+    @Override
+    public boolean canEval(List<String> keys) {
+        return keys.stream().map(JedisClusterCRC16::getSlot).distinct().count() <= 1;
+    }
+
+    @Override
+    public Object eval(JedisScript script, List<String> keys, List<String> args) {
+        try {
+            return jedisCluster.evalsha(script.getSha1(), keys, args);
+        } catch (JedisNoScriptException e) {
+            return jedisCluster.eval(script.getScript(), keys, args);
+        }
+    }
+
+    /**
+     * @return the indexes of the keys grouped by the node that serves them, each group keyed by one
+     *     of the slots owned by that node
+     */
+    private Map<Integer, List<Integer>> groupByNode(List<String> keys) {
+        Map<Integer, String> nodeBySlot = new HashMap<>();
+        Map<String, Integer> slotByNode = new HashMap<>();
+        Map<Integer, List<Integer>> indexesByNode = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            int slot = JedisClusterCRC16.getSlot(keys.get(i));
+            String node =
+                    nodeBySlot.computeIfAbsent(
+                            slot,
+                            s -> {
+                                try (Jedis jedis = jedisCluster.getConnectionFromSlot(s)) {
+                                    return jedis.getClient().getHost()
+                                            + ":"
+                                            + jedis.getClient().getPort();
+                                }
+                            });
+            int nodeSlot = slotByNode.computeIfAbsent(node, n -> slot);
+            indexesByNode.computeIfAbsent(nodeSlot, s -> new ArrayList<>()).add(i);
+        }
+        return indexesByNode;
+    }
+
     @Override
     public Boolean exists(String key) {
         return jedisCluster.exists(key);
@@ -31,7 +31,7 @@ import redis.clients.jedis.Tuple;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.params.ZAddParams;
 
-public class JedisMock extends Jedis {
+public class JedisMock extends Jedis implements JedisBatchCommands {
 
     private final IRedisClient redis;
 
@@ -161,6 +161,20 @@ public class JedisMock extends Jedis {
         }
     }
 
+    @Override
+    public void write(List<JedisMutation> mutations) {
+        mutations.forEach(mutation -> mutation.apply(this));
+    }
+
+    @Override
+    public List<Boolean> zremEach(final String key, final List<String> members) {
+        List<Boolean> removed = new ArrayList<>(members.size());
+        for (String member : members) {
+            removed.add(zrem(key, member) > 0);
+        }
+        return removed;
+    }
+
     @Override
     public Long setnx(final String key, final String value) {
         try {
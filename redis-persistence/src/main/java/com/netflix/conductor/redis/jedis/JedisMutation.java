@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.jedis;
+
+import java.util.function.Consumer;
+
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.commands.RedisPipeline;
+
+/**
+ * A single-key write whose reply is not needed by the caller, so that it can be deferred and sent
+ * to Redis together with other writes.
+ *
+ * @see JedisProxy#write(JedisMutation)
+ */
+public final class JedisMutation {
+
+    private final String key;
+    private final Consumer<JedisCommands> command;
+    private final Consumer<RedisPipeline> pipelinedCommand;
+
+    private JedisMutation(
+            String key, Consumer<JedisCommands> command, Consumer<RedisPipeline> pipelinedCommand) {
+        this.key = key;
+        this.command = command;
+        this.pipelinedCommand = pipelinedCommand;
+    }
+
+    public static JedisMutation set(String key, String value) {
+        return new JedisMutation(key, c -> c.set(key, value), p -> p.set(key, value));
+    }
+
+    public static JedisMutation del(String key) {
+        return new JedisMutation(key, c -> c.del(key), p -> p.del(key));
+    }
+
+    public static JedisMutation expire(String key, int seconds) {
+        return new JedisMutation(key, c -> c.expire(key, seconds), p -> p.expire(key, seconds));
+    }
+
+    public static JedisMutation sadd(String key, String member) {
+        return new JedisMutation(key, c -> c.sadd(key, member), p -> p.sadd(key, member));
+    }
+
+    public static JedisMutation srem(String key, String member) {
+        return new JedisMutation(key, c -> c.srem(key, member), p -> p.srem(key, member));
+    }
+
+    public static JedisMutation zrem(String key, String member) {
+        return new JedisMutation(key, c -> c.zrem(key, member), p -> p.zrem(key, member));
+    }
+
+    public static JedisMutation hset(String key, String field, String value) {
+        return new JedisMutation(
+                key, c -> c.hset(key, field, value), p -> p.hset(key, field, value));
+    }
+
+    public static JedisMutation hdel(String key, String field) {
+        return new JedisMutation(key, c -> c.hdel(key, field), p -> p.hdel(key, field));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /** Executes the write right away. */
+    public void apply(JedisCommands commands) {
+        command.accept(commands);
+    }
+
+    /** Queues the write on a pipeline or transaction, exactly one command per mutation. */
+    public void apply(RedisPipeline pipeline) {
+        pipelinedCommand.accept(pipeline);
+    }
+}
@@ -12,6 +12,8 @@
  */
 package com.netflix.conductor.redis.jedis;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -19,6 +21,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +29,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 
+import com.netflix.conductor.metrics.Monitors;
 import com.netflix.conductor.redis.config.AnyRedisCondition;
 
 import redis.clients.jedis.ScanParams;
@@ -43,98 +47,237 @@ public class JedisProxy {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JedisProxy.class);
 
+    private static final String DAO_NAME = "redis";
+
     protected JedisCommands jedisCommands;
 
+    /** Writes collected by the calling thread, see {@link #startBatch()}. */
+    private final ThreadLocal<List<JedisMutation>> pendingMutations = new ThreadLocal<>();
+
     public JedisProxy(@Qualifier(DEFAULT_CLIENT_INJECTION_NAME) JedisCommands jedisCommands) {
         this.jedisCommands = jedisCommands;
     }
 
+    /**
+     * Starts collecting the {@link #write(JedisMutation) writes} of the calling thread instead of
+     * sending them one by one. Any other command issued by the thread sends the collected writes
+     * first, so the thread always reads its own writes.
+     */
+    public void startBatch() {
+        if (pendingMutations.get() == null) {
+            pendingMutations.set(new ArrayList<>());
+        }
+    }
+
+    /** Sends the writes collected so far by the calling thread, and keeps collecting. */
+    public void flushBatch() {
+        List<JedisMutation> mutations = pendingMutations.get();
+        if (mutations == null || mutations.isEmpty()) {
+            return;
+        }
+        pendingMutations.set(new ArrayList<>());
+
+        long start = System.currentTimeMillis();
+        if (jedisCommands instanceof JedisBatchCommands) {
+            ((JedisBatchCommands) jedisCommands).write(mutations);
+        } else {
+            mutations.forEach(mutation -> mutation.apply(jedisCommands));
+        }
+        Monitors.recordDaoBatchFlush(
+                DAO_NAME, mutations.size(), System.currentTimeMillis() - start);
+    }
+
+    /** Sends the writes collected by the calling thread, and stops collecting. */
+    public void endBatch() {
+        try {
+            flushBatch();
+        } finally {
+            pendingMutations.remove();
+        }
+    }
+
+    /** Drops the writes collected by the calling thread, and stops collecting. */
+    public void discardBatch() {
+        pendingMutations.remove();
+    }
+
+    /**
+     * Sends the write, or collects it if the calling thread has {@link #startBatch() started} a
+     * batch.
+     */
+    public void write(JedisMutation mutation) {
+        List<JedisMutation> mutations = pendingMutations.get();
+        if (mutations != null) {
+            mutations.add(mutation);
+        } else {
+            mutation.apply(jedisCommands);
+        }
+    }
+
+    /** The client, once the writes collected by the calling thread have been sent. */
+    private JedisCommands commands() {
+        flushBatch();
+        return jedisCommands;
+    }
+
     public Set<String> zrange(String key, long start, long end) {
-        return jedisCommands.zrange(key, start, end);
+        return commands().zrange(key, start, end);
     }
 
     public Set<Tuple> zrangeByScoreWithScores(String key, double maxScore, int count) {
-        return jedisCommands.zrangeByScoreWithScores(key, 0, maxScore, 0, count);
+        return commands().zrangeByScoreWithScores(key, 0, maxScore, 0, count);
     }
 
     public Set<String> zrangeByScore(String key, double maxScore, int count) {
-        return jedisCommands.zrangeByScore(key, 0, maxScore, 0, count);
+        return commands().zrangeByScore(key, 0, maxScore, 0, count);
     }
 
     public Set<String> zrangeByScore(String key, double minScore, double maxScore, int count) {
-        return jedisCommands.zrangeByScore(key, minScore, maxScore, 0, count);
+        return commands().zrangeByScore(key, minScore, maxScore, 0, count);
     }
 
     public ScanResult<Tuple> zscan(String key, int cursor) {
-        return jedisCommands.zscan(key, "" + cursor);
+        return commands().zscan(key, "" + cursor);
     }
 
     public String get(String key) {
-        return jedisCommands.get(key);
+        return commands().get(key);
+    }
+
+    /**
+     * Reads multiple keys in as few round-trips as the underlying client allows. Clients without
+     * multi-key support (e.g. Dynomite) fall back to one GET per key.
+     *
+     * @return the values in the same order as the keys, <code>null</code> for missing keys
+     */
+    public List<String> mget(List<String> keys) {
+        LOGGER.trace("mget {}", keys.size());
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (jedisCommands instanceof JedisBatchCommands) {
+            return ((JedisBatchCommands) commands()).mget(keys.toArray(new String[0]));
+        }
+        return keys.stream().map(commands()::get).collect(Collectors.toList());
+    }
+
+    /**
+     * @param keys the keys a script would use
+     * @return true if the client can run a script over the keys; Dynomite, the in-memory client and
+     *     keys spread over several cluster slots require separate commands instead
+     */
+    public boolean canEval(List<String> keys) {
+        return jedisCommands instanceof JedisScriptCommands
+                && ((JedisScriptCommands) jedisCommands).canEval(keys);
+    }
+
+    /**
+     * Runs the script atomically on the server, in one round-trip. Must only be called when {@link
+     * #canEval(List)} is true for the keys.
+     */
+    public Object eval(JedisScript script, List<String> keys, List<String> args) {
+        return ((JedisScriptCommands) commands()).eval(script, keys, args);
+    }
+
+    /**
+     * Removes the members from the sorted set, in one round-trip where the client allows it.
+     * Clients without pipelining (e.g. Dynomite) fall back to one ZREM per member.
+     *
+     * @return the members that the set held
+     */
+    public List<String> zremEach(String key, List<String> members) {
+        List<Boolean> removed;
+        if (jedisCommands instanceof JedisBatchCommands) {
+            removed = ((JedisBatchCommands) commands()).zremEach(key, members);
+        } else {
+            removed =
+                    members.stream()
+                            .map(member -> commands().zrem(key, member) > 0)
+                            .collect(Collectors.toList());
+        }
+        List<String> removedMembers = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (removed.get(i)) {
+                removedMembers.add(members.get(i));
+            }
+        }
+        return removedMembers;
     }
 
     public Long zcard(String key) {
-        return jedisCommands.zcard(key);
+        return commands().zcard(key);
     }
 
     public Long del(String key) {
-        return jedisCommands.del(key);
+        return commands().del(key);
     }
 
     public Long zrem(String key, String member) {
-        return jedisCommands.zrem(key, member);
+        return commands().zrem(key, member);
     }
 
     public long zremrangeByScore(String key, String start, String end) {
-        return jedisCommands.zremrangeByScore(key, start, end);
+        return commands().zremrangeByScore(key, start, end);
     }
 
     public long zcount(String key, double min, double max) {
-        return jedisCommands.zcount(key, min, max);
+        return commands().zcount(key, min, max);
     }
 
     public String set(String key, String value) {
-        return jedisCommands.set(key, value);
+        return commands().set(key, value);
     }
 
     public Long setnx(String key, String value) {
-        return jedisCommands.setnx(key, value);
+        return commands().setnx(key, value);
     }
 
     public Long zadd(String key, double score, String member) {
-        return jedisCommands.zadd(key, score, member);
+        return commands().zadd(key, score, member);
     }
 
     public Long zaddnx(String key, double score, String member) {
         ZAddParams params = ZAddParams.zAddParams().nx();
-        return jedisCommands.zadd(key, score, member, params);
+        return commands().zadd(key, score, member, params);
     }
 
     public Long hset(String key, String field, String value) {
-        return jedisCommands.hset(key, field, value);
+        return commands().hset(key, field, value);
     }
 
     public Long hsetnx(String key, String field, String value) {
-        return jedisCommands.hsetnx(key, field, value);
+        return commands().hsetnx(key, field, value);
+    }
+
+    public Long hincrBy(String key, String field, long value) {
+        return commands().hincrBy(key, field, value);
+    }
+
+    public Long incr(String key) {
+        return commands().incr(key);
     }
 
     public Long hlen(String key) {
-        return jedisCommands.hlen(key);
+        return commands().hlen(key);
     }
 
     public String hget(String key, String field) {
-        return jedisCommands.hget(key, field);
+        return commands().hget(key, field);
+    }
+
+    public List<String> hmget(String key, String... fields) {
+        return commands().hmget(key, fields);
     }
 
     public Optional<String> optionalHget(String key, String field) {
-        return Optional.ofNullable(jedisCommands.hget(key, field));
+        return Optional.ofNullable(commands().hget(key, field));
     }
 
     public Map<String, String> hscan(String key, int count) {
         Map<String, String> m = new HashMap<>();
         int cursor = 0;
         do {
-            ScanResult<Entry<String, String>> scanResult = jedisCommands.hscan(key, "" + cursor);
+            ScanResult<Entry<String, String>> scanResult = commands().hscan(key, "" + cursor);
             cursor = Integer.parseInt(scanResult.getCursor());
             for (Entry<String, String> r : scanResult.getResult()) {
                 m.put(r.getKey(), r.getValue());
@@ -151,7 +294,7 @@ public class JedisProxy {
         Map<String, String> m = new HashMap<>();
         int cursor = 0;
         do {
-            ScanResult<Entry<String, String>> scanResult = jedisCommands.hscan(key, "" + cursor);
+            ScanResult<Entry<String, String>> scanResult = commands().hscan(key, "" + cursor);
             cursor = Integer.parseInt(scanResult.getCursor());
             for (Entry<String, String> r : scanResult.getResult()) {
                 m.put(r.getKey(), r.getValue());
@@ -163,7 +306,7 @@ public class JedisProxy {
 
     public List<String> hvals(String key) {
         LOGGER.trace("hvals {}", key);
-        return jedisCommands.hvals(key);
+        return commands().hvals(key);
     }
 
     public Set<String> hkeys(String key) {
@@ -171,7 +314,7 @@ public class JedisProxy {
         Set<String> keys = new HashSet<>();
         int cursor = 0;
         do {
-            ScanResult<Entry<String, String>> sr = jedisCommands.hscan(key, "" + cursor);
+            ScanResult<Entry<String, String>> sr = commands().hscan(key, "" + cursor);
             cursor = Integer.parseInt(sr.getCursor());
             List<Entry<String, String>> result = sr.getResult();
             for (Entry<String, String> e : result) {
@@ -184,29 +327,29 @@ public class JedisProxy {
 
     public Long hdel(String key, String... fields) {
         LOGGER.trace("hdel {} {}", key, fields[0]);
-        return jedisCommands.hdel(key, fields);
+        return commands().hdel(key, fields);
     }
 
     public Long expire(String key, int seconds) {
-        return jedisCommands.expire(key, seconds);
+        return commands().expire(key, seconds);
     }
 
     public Boolean hexists(String key, String field) {
-        return jedisCommands.hexists(key, field);
+        return commands().hexists(key, field);
     }
 
     public Long sadd(String key, String value) {
         LOGGER.trace("sadd {} {}", key, value);
-        return jedisCommands.sadd(key, value);
+        return commands().sadd(key, value);
     }
 
     public Long srem(String key, String member) {
         LOGGER.trace("srem {} {}", key, member);
-        return jedisCommands.srem(key, member);
+        return commands().srem(key, member);
     }
 
     public boolean sismember(String key, String member) {
-        return jedisCommands.sismember(key, member);
+        return commands().sismember(key, member);
     }
 
     public Set<String> smembers(String key) {
@@ -217,7 +360,7 @@ public class JedisProxy {
         sp.count(50);
 
         do {
-            ScanResult<String> scanResult = jedisCommands.sscan(key, "" + cursor, sp);
+            ScanResult<String> scanResult = commands().sscan(key, "" + cursor, sp);
             cursor = Integer.parseInt(scanResult.getCursor());
             r.addAll(scanResult.getResult());
         } while (cursor > 0);
@@ -226,6 +369,6 @@ public class JedisProxy {
     }
 
     public Long scard(String key) {
-        return jedisCommands.scard(key);
+        return commands().scard(key);
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.jedis;
+
+import java.util.List;
+
+import redis.clients.jedis.commands.JedisCommands;
+
+/**
+ * Server-side scripting, which is not part of {@link JedisCommands}. Implemented by the {@link
+ * JedisCommands} wrappers that talk to Redis itself; Dynomite and the in-memory client do not run
+ * scripts.
+ */
+public interface JedisScriptCommands {
+
+    /**
+     * @param keys the keys the script would use
+     * @return true if the keys can be used by one script, e.g. they are in the same cluster slot
+     */
+    default boolean canEval(List<String> keys) {
+        return true;
+    }
+
+    /**
+     * Runs the script atomically on the server.
+     *
+     * @param script the script to run
+     * @param keys the keys used by the script
+     * @param args the other arguments of the script
+     * @return the reply of the script
+     */
+    Object eval(JedisScript script, List<String> keys, List<String> args);
+}
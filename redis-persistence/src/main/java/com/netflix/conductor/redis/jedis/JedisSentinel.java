@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import redis.clients.jedis.BitPosParams;
 import redis.clients.jedis.GeoCoordinate;
@@ -24,6 +25,8 @@ import redis.clients.jedis.GeoUnit;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPoolAbstract;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
@@ -33,14 +36,16 @@ import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.StreamGroupInfo;
 import redis.clients.jedis.StreamInfo;
 import redis.clients.jedis.StreamPendingEntry;
+import redis.clients.jedis.Transaction;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
 
-public class JedisSentinel implements JedisCommands {
+public class JedisSentinel implements JedisCommands, JedisBatchCommands, JedisScriptCommands {
 
     private final JedisPoolAbstract jedisPool;
 
@@ -69,6 +74,48 @@ public class JedisSentinel implements JedisCommands {
         }
     }
 
+    @Override
+    public List<String> mget(String... keys) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.mget(keys);
+        }
+    }
+
+    @Override
+    public void write(List<JedisMutation> mutations) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Transaction transaction = jedis.multi();
+            mutations.forEach(mutation -> mutation.apply(transaction));
+            JedisBatchCommands.checkReplies(transaction.exec());
+        }
+    }
+
+    @Override
+    public List<Boolean> zremEach(String key, List<String> members) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> responses =
+                    members.stream()
+                            .map(member -> pipeline.zrem(key, member))
+                            .collect(Collectors.toList());
+            pipeline.sync();
+            return responses.stream()
+                    .map(response -> response.get() > 0)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Object eval(JedisScript script, List<String> keys, List<String> args) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            try {
+                return jedis.evalsha(script.getSha1(), keys, args);
+            } catch (JedisNoScriptException e) {
+                return jedis.eval(script.getScript(), keys, args);
+            }
+        }
+    }
+
     @Override
     public Boolean exists(String key) {
         try (Jedis jedis = jedisPool.getResource()) {
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import redis.clients.jedis.BitPosParams;
 import redis.clients.jedis.GeoCoordinate;
@@ -24,6 +25,8 @@ import redis.clients.jedis.GeoUnit;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
@@ -33,15 +36,17 @@ import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.StreamGroupInfo;
 import redis.clients.jedis.StreamInfo;
 import redis.clients.jedis.StreamPendingEntry;
+import redis.clients.jedis.Transaction;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
 import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
 
 /** A {@link JedisCommands} implementation that delegates to {@link JedisPool}. */
-public class JedisStandalone implements JedisCommands {
+public class JedisStandalone implements JedisCommands, JedisBatchCommands, JedisScriptCommands {
 
     private final JedisPool jedisPool;
 
@@ -70,6 +75,51 @@ public class JedisStandalone implements JedisCommands {
         return executeInJedis(jedis -> jedis.get(key));
     }
 
+    @Override
+    public List<String> mget(String... keys) {
+        return executeInJedis(jedis -> jedis.mget(keys));
+    }
+
+    @Override
+    public void write(List<JedisMutation> mutations) {
+        List<Object> replies =
+                executeInJedis(
+                        jedis -> {
+                            Transaction transaction = jedis.multi();
+                            mutations.forEach(mutation -> mutation.apply(transaction));
+                            return transaction.exec();
+                        });
+        JedisBatchCommands.checkReplies(replies);
+    }
+
+    @Override
+    public List<Boolean> zremEach(String key, List<String> members) {
+        return executeInJedis(
+                jedis -> {
+                    Pipeline pipeline = jedis.pipelined();
+                    List<Response<Long>> responses =
+                            members.stream()
+                                    .map(member -> pipeline.zrem(key, member))
+                                    .collect(Collectors.toList());
+                    pipeline.sync();
+                    return responses.stream()
+                            .map(response -> response.get() > 0)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    @Override
+    public Object eval(JedisScript script, List<String> keys, List<String> args) {
+        return executeInJedis(
+                jedis -> {
+                    try {
+                        return jedis.evalsha(script.getSha1(), keys, args);
+                    } catch (JedisNoScriptException e) {
+                        return jedis.eval(script.getScript(), keys, args);
+                    }
+                });
+    }
+
     @Override
     public Boolean exists(String key) {
         return executeInJedis(jedis -> jedis.exists(key));
@@ -27,6 +27,7 @@ import com.netflix.conductor.dao.QueueDAO;
 import com.netflix.conductor.redis.config.RedisProperties;
 import com.netflix.conductor.redis.dynoqueue.RedisQueuesShardingStrategyProvider;
 import com.netflix.conductor.redis.jedis.JedisMock;
+import com.netflix.conductor.redis.jedis.JedisProxy;
 import com.netflix.dyno.connectionpool.Host;
 import com.netflix.dyno.queues.ShardSupplier;
 import com.netflix.dyno.queues.redis.RedisQueues;
@@ -37,7 +38,9 @@ import redis.clients.jedis.commands.JedisCommands;
 import static com.netflix.conductor.redis.dynoqueue.RedisQueuesShardingStrategyProvider.LOCAL_ONLY_STRATEGY;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,14 +73,77 @@ public class DynoQueueDAOTest {
                 };
         ShardingStrategy shardingStrategy =
                 new RedisQueuesShardingStrategyProvider(shardSupplier, properties).get();
+        when(properties.getQueuePrefix()).thenReturn("test");
         RedisQueues redisQueues =
                 new RedisQueues(
-                        jedisMock, jedisMock, "", shardSupplier, 60_000, 60_000, shardingStrategy);
-        queueDAO = new DynoQueueDAO(redisQueues);
+                        jedisMock,
+                        jedisMock,
+                        properties.getQueuePrefix(),
+                        shardSupplier,
+                        60_000,
+                        60_000,
+                        shardingStrategy);
+        queueDAO =
+                new DynoQueueDAO(redisQueues, new JedisProxy(jedisMock), shardSupplier, properties);
     }
 
     @Rule public ExpectedException expected = ExpectedException.none();
 
+    @Test
+    public void testBatchAck() {
+        String queueName = "TestBatchAckQueue";
+        for (int i = 0; i < 5; i++) {
+            queueDAO.push(queueName, "msg" + i, 0);
+        }
+        List<String> popped = queueDAO.pop(queueName, 5, 100);
+        assertEquals(5, popped.size());
+
+        queueDAO.ack(queueName, popped);
+
+        Map<String, Map<String, Map<String, Long>>> verbose = queueDAO.queuesDetailVerbose();
+        assertEquals(0, verbose.get(queueName).get("a").get("size").longValue());
+        assertEquals(0, verbose.get(queueName).get("a").get("uacked").longValue());
+        popped.forEach(messageId -> assertFalse(queueDAO.containsMessage(queueName, messageId)));
+    }
+
+    @Test
+    public void testBatchAckKeepsMessagesNotPopped() {
+        String queueName = "TestBatchAckNotPoppedQueue";
+        queueDAO.push(queueName, "msg1", 0);
+        queueDAO.push(queueName, "msg2", 0);
+        List<String> popped = queueDAO.pop(queueName, 1, 100);
+        assertEquals(1, popped.size());
+        String notPopped = popped.get(0).equals("msg1") ? "msg2" : "msg1";
+
+        queueDAO.ack(queueName, List.of(popped.get(0), notPopped, "unknown"));
+
+        assertFalse(queueDAO.containsMessage(queueName, popped.get(0)));
+        assertTrue(queueDAO.containsMessage(queueName, notPopped));
+        assertEquals(1, queueDAO.getSize(queueName));
+        assertEquals(List.of(notPopped), queueDAO.pop(queueName, 1, 100));
+    }
+
+    @Test
+    public void testContainsMessages() {
+        String queueName = "TestContainsMessagesQueue";
+        queueDAO.push(queueName, "msg1", 0);
+        queueDAO.push(queueName, "msg2", 0);
+        queueDAO.push(queueName, "msg3", 0);
+        queueDAO.remove(queueName, "msg3");
+        // a popped message is still in the queue until it is acked
+        assertEquals(List.of("msg1"), queueDAO.pop(queueName, 1, 100));
+
+        List<String> messageIds = List.of("msg1", "msg2", "msg3", "msg4");
+        assertEquals(Set.of("msg1", "msg2"), queueDAO.containsMessages(queueName, messageIds));
+        messageIds.forEach(
+                messageId ->
+                        assertEquals(
+                                queueDAO.containsMessage(queueName, messageId),
+                                queueDAO.containsMessages(queueName, List.of(messageId))
+                                        .contains(messageId)));
+        assertTrue(queueDAO.containsMessages(queueName, List.of()).isEmpty());
+    }
+
     @Test
     public void test() {
         String queueName = "TestQueue";
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.netflix.conductor.common.config.TestObjectMapperConfiguration;
+import com.netflix.conductor.model.TaskModel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
+@RunWith(SpringRunner.class)
+public class PayloadCodecTest {
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    public void testCompressesLargePayloads() throws Exception {
+        String json = objectMapper.writeValueAsString(task());
+        String encoded = new PayloadCodec(1024).encode(json);
+
+        assertTrue(encoded.startsWith(PayloadCodec.DEFLATE_V1));
+        assertTrue(encoded.length() < json.length());
+        assertEquals(json, PayloadCodec.decode(encoded));
+    }
+
+    @Test
+    public void testKeepsSmallPayloadsAsJson() throws Exception {
+        String json = objectMapper.writeValueAsString(task());
+
+        assertSame(json, new PayloadCodec(json.length() + 1).encode(json));
+        assertSame(json, new PayloadCodec(0).encode(json));
+        String shortJson = "{}";
+        assertSame(shortJson, new PayloadCodec(1).encode(shortJson));
+    }
+
+    @Test
+    public void testReadsJson() {
+        String json = "{\"taskId\":\"taskId\"}";
+        assertSame(json, PayloadCodec.decode(json));
+    }
+
+    private TaskModel task() {
+        TaskModel task = new TaskModel();
+        task.setTaskId("7b6a1a9e-34b6-4e5b-9d60-8d2b6f3c1f0e");
+        task.setTaskType("HTTP");
+        task.setReferenceTaskName("fetch_order");
+        task.setWorkflowInstanceId("0d3b7c4e-5a5f-4b53-8d6a-2c1f3f6b9e21");
+        task.setWorkflowType("order_fulfillment");
+        task.setStatus(TaskModel.Status.COMPLETED);
+        Map<String, Object> request = new HashMap<>();
+        request.put("uri", "https://orders.example.com/api/v1/orders/12345");
+        request.put("method", "GET");
+        request.put("headers", Map.of("Accept", "application/json"));
+        task.getInputData().put("http_request", request);
+        Map<String, Object> response = new HashMap<>();
+        response.put("statusCode", 200);
+        response.put(
+                "body",
+                List.of(
+                        Map.of("sku", "A-100", "quantity", 2, "price", 19.99),
+                        Map.of("sku", "A-101", "quantity", 1, "price", 5.49),
+                        Map.of("sku", "B-200", "quantity", 4, "price", 3.75),
+                        Map.of("sku", "C-300", "quantity", 1, "price", 129.0),
+                        Map.of("sku", "C-301", "quantity", 3, "price", 12.5),
+                        Map.of("sku", "D-400", "quantity", 2, "price", 7.25)));
+        task.getOutputData().put("response", response);
+        return task;
+    }
+}
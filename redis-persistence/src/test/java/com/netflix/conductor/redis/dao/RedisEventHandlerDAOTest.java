@@ -12,6 +12,7 @@
  */
 package com.netflix.conductor.redis.dao;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,12 +39,15 @@ import redis.clients.jedis.commands.JedisCommands;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
 @RunWith(SpringRunner.class)
 public class RedisEventHandlerDAOTest {
 
     private RedisEventHandlerDAO redisEventHandlerDAO;
+    private RedisEventHandlerDAO otherNodeEventHandlerDAO;
+    private RedisMetadataChangeNotifier changeNotifier;
 
     @Autowired private ObjectMapper objectMapper;
 
@@ -53,9 +57,23 @@ public class RedisEventHandlerDAOTest {
         RedisProperties properties = mock(RedisProperties.class);
         JedisCommands jedisMock = new JedisMock();
         JedisProxy jedisProxy = new JedisProxy(jedisMock);
+        // polled by the tests
+        when(properties.getMetadataChangePollInterval()).thenReturn(Duration.ofHours(1));
 
+        changeNotifier =
+                new RedisMetadataChangeNotifier(
+                        jedisProxy, objectMapper, conductorProperties, properties);
         redisEventHandlerDAO =
-                new RedisEventHandlerDAO(jedisProxy, objectMapper, conductorProperties, properties);
+                new RedisEventHandlerDAO(
+                        jedisProxy, objectMapper, conductorProperties, properties, changeNotifier);
+        otherNodeEventHandlerDAO =
+                new RedisEventHandlerDAO(
+                        jedisProxy,
+                        objectMapper,
+                        conductorProperties,
+                        properties,
+                        new RedisMetadataChangeNotifier(
+                                jedisProxy, objectMapper, conductorProperties, properties));
     }
 
     @Test
@@ -100,4 +118,24 @@ public class RedisEventHandlerDAOTest {
         assertNotNull(byEvents);
         assertEquals(1, byEvents.size());
     }
+
+    @Test
+    public void testEventHandlerChangedThroughOtherNode() {
+        String event = "SQS::arn:account090:sqstest3";
+
+        EventHandler eventHandler = new EventHandler();
+        eventHandler.setName(UUID.randomUUID().toString());
+        eventHandler.setActive(true);
+        eventHandler.setEvent(event);
+        otherNodeEventHandlerDAO.addEventHandler(eventHandler);
+        assertEquals(1, redisEventHandlerDAO.getEventHandlersForEvent(event, true).size());
+
+        eventHandler.setActive(false);
+        otherNodeEventHandlerDAO.updateEventHandler(eventHandler);
+        assertEquals(1, redisEventHandlerDAO.getEventHandlersForEvent(event, true).size());
+
+        changeNotifier.pollChanges();
+        assertEquals(0, redisEventHandlerDAO.getEventHandlersForEvent(event, true).size());
+        assertEquals(1, redisEventHandlerDAO.getEventHandlersForEvent(event, false).size());
+    }
 }
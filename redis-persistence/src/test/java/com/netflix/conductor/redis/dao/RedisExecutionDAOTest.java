@@ -13,8 +13,11 @@
 package com.netflix.conductor.redis.dao;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,23 +25,40 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.unit.DataSize;
 
 import com.netflix.conductor.common.config.TestObjectMapperConfiguration;
 import com.netflix.conductor.common.metadata.tasks.TaskDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
 import com.netflix.conductor.core.config.ConductorProperties;
 import com.netflix.conductor.dao.ExecutionDAO;
 import com.netflix.conductor.dao.ExecutionDAOTest;
 import com.netflix.conductor.model.TaskModel;
+import com.netflix.conductor.model.WorkflowModel;
 import com.netflix.conductor.redis.config.RedisProperties;
 import com.netflix.conductor.redis.jedis.JedisMock;
 import com.netflix.conductor.redis.jedis.JedisProxy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.commands.JedisCommands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
@@ -54,6 +74,8 @@ public class RedisExecutionDAOTest extends ExecutionDAOTest {
         ConductorProperties conductorProperties = mock(ConductorProperties.class);
         RedisProperties properties = mock(RedisProperties.class);
         when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        // store every payload compressed that gets shorter
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(1));
         JedisCommands jedisMock = new JedisMock();
         JedisProxy jedisProxy = new JedisProxy(jedisMock);
 
@@ -61,6 +83,38 @@ public class RedisExecutionDAOTest extends ExecutionDAOTest {
                 new RedisExecutionDAO(jedisProxy, objectMapper, conductorProperties, properties);
     }
 
+    @Test
+    public void testExceedsLimitInScript() {
+        JedisProxy jedisProxy = mock(JedisProxy.class);
+        when(jedisProxy.canEval(anyList())).thenReturn(true);
+        when(jedisProxy.eval(any(), anyList(), anyList()))
+                .thenReturn(List.of(0L, 0L))
+                .thenReturn(List.of(1L, 1L))
+                .thenReturn(List.of(2L, 0L));
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(0));
+        RedisExecutionDAO dao =
+                new RedisExecutionDAO(
+                        jedisProxy, objectMapper, mock(ConductorProperties.class), properties);
+
+        TaskDef taskDef = new TaskDef("task_limited");
+        taskDef.setConcurrentExecLimit(1);
+        TaskModel task = new TaskModel();
+        task.setTaskId("taskId");
+        task.setTaskDefName(taskDef.getName());
+        WorkflowTask workflowTask = new WorkflowTask();
+        workflowTask.setTaskDefinition(taskDef);
+        task.setWorkflowTask(workflowTask);
+
+        assertFalse(dao.exceedsLimit(task));
+        assertTrue(dao.exceedsLimit(task));
+        assertTrue(dao.exceedsLimit(task));
+
+        verify(jedisProxy, times(3)).eval(any(), anyList(), anyList());
+        verify(jedisProxy, never()).scard(anyString());
+    }
+
     @Test
     public void testCorrelateTaskToWorkflowInDS() {
         String workflowId = "workflowId";
@@ -89,6 +143,157 @@ public class RedisExecutionDAOTest extends ExecutionDAOTest {
         assertEquals(taskId, tasks.get(0).getTaskId());
     }
 
+    @Test
+    public void testGetTasksSkipsMissingTasks() {
+        String workflowId = "workflowId";
+        List<TaskModel> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TaskModel task = new TaskModel();
+            task.setTaskId("taskId" + i);
+            task.setWorkflowInstanceId(workflowId);
+            task.setReferenceTaskName("ref_name" + i);
+            task.setTaskDefName("task" + i);
+            task.setTaskType("task" + i);
+            task.setStatus(TaskModel.Status.SCHEDULED);
+            tasks.add(task);
+        }
+        executionDAO.createTasks(tasks);
+
+        List<TaskModel> found =
+                executionDAO.getTasks(Arrays.asList("taskId2", "unknown", "taskId0"));
+        assertEquals(2, found.size());
+        assertEquals("taskId2", found.get(0).getTaskId());
+        assertEquals("taskId0", found.get(1).getTaskId());
+        assertEquals(3, executionDAO.getTasksForWorkflow(workflowId).size());
+    }
+
+    @Test
+    public void testWriteBatching() {
+        ConductorProperties conductorProperties = mock(ConductorProperties.class);
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(0));
+        when(properties.isWriteBatchingEnabled()).thenReturn(true);
+        JedisMock jedisMock = new JedisMock();
+        RedisExecutionDAO batchingDAO =
+                new RedisExecutionDAO(
+                        new JedisProxy(jedisMock), objectMapper, conductorProperties, properties);
+
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setWorkflowId("workflowId");
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setName("workflow");
+        workflow.setWorkflowDefinition(workflowDef);
+        workflow.setStatus(WorkflowModel.Status.RUNNING);
+        workflow.setCreateTime(System.currentTimeMillis());
+
+        batchingDAO.startBatch();
+        batchingDAO.createWorkflow(workflow);
+        assertNull(jedisMock.get("WORKFLOW.workflowId"));
+
+        // reads of the batching thread see its own writes
+        assertNotNull(batchingDAO.getWorkflow("workflowId", false));
+        assertNotNull(jedisMock.get("WORKFLOW.workflowId"));
+
+        workflow.setStatus(WorkflowModel.Status.COMPLETED);
+        batchingDAO.updateWorkflow(workflow);
+        assertEquals(1, (long) jedisMock.scard("PENDING_WORKFLOWS.workflow"));
+
+        batchingDAO.endBatch();
+        assertEquals(0, (long) jedisMock.scard("PENDING_WORKFLOWS.workflow"));
+    }
+
+    @Test
+    public void testDiscardedBatchIsNotSent() {
+        ConductorProperties conductorProperties = mock(ConductorProperties.class);
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(0));
+        when(properties.isWriteBatchingEnabled()).thenReturn(true);
+        JedisMock jedisMock = new JedisMock();
+        RedisExecutionDAO batchingDAO =
+                new RedisExecutionDAO(
+                        new JedisProxy(jedisMock), objectMapper, conductorProperties, properties);
+
+        WorkflowModel workflow = new WorkflowModel();
+        workflow.setWorkflowId("workflowId");
+        WorkflowDef workflowDef = new WorkflowDef();
+        workflowDef.setName("workflow");
+        workflow.setWorkflowDefinition(workflowDef);
+        workflow.setStatus(WorkflowModel.Status.RUNNING);
+        workflow.setCreateTime(System.currentTimeMillis());
+
+        batchingDAO.startBatch();
+        batchingDAO.createWorkflow(workflow);
+        batchingDAO.flushBatch();
+        workflow.setStatus(WorkflowModel.Status.COMPLETED);
+        batchingDAO.updateWorkflow(workflow);
+
+        batchingDAO.discardBatch();
+        assertEquals(
+                WorkflowModel.Status.RUNNING,
+                batchingDAO.getWorkflow("workflowId", false).getStatus());
+        assertEquals(1, (long) jedisMock.scard("PENDING_WORKFLOWS.workflow"));
+
+        // the writes after the batch are sent right away
+        batchingDAO.updateWorkflow(workflow);
+        assertEquals(0, (long) jedisMock.scard("PENDING_WORKFLOWS.workflow"));
+    }
+
+    @Test
+    public void testUpdateTaskCostIsIndependentOfWorkflowSize() {
+        ConductorProperties conductorProperties = mock(ConductorProperties.class);
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(0));
+        JedisMock jedisMock = spy(new JedisMock());
+        RedisExecutionDAO countingDAO =
+                new RedisExecutionDAO(
+                        new JedisProxy(jedisMock), objectMapper, conductorProperties, properties);
+
+        List<String> smallWorkflowCommands =
+                updateTaskCommands(countingDAO, jedisMock, "small", 10);
+        List<String> largeWorkflowCommands =
+                updateTaskCommands(countingDAO, jedisMock, "large", 1000);
+
+        assertEquals(smallWorkflowCommands, largeWorkflowCommands);
+        // the mock returns a whole set or hash in one scan, so no read of the tasks of the
+        // workflow may be issued at all
+        verify(jedisMock, never()).smembers(anyString());
+        verify(jedisMock, never()).sscan(anyString(), anyString());
+        verify(jedisMock, never()).sscan(anyString(), anyString(), any(ScanParams.class));
+        verify(jedisMock, never()).hgetAll(anyString());
+        verify(jedisMock, never()).hscan(anyString(), anyString());
+        assertFalse(largeWorkflowCommands.contains("sscan"));
+        assertFalse(largeWorkflowCommands.contains("hscan"));
+        assertEquals(1000, countingDAO.getTasksForWorkflow("large").size());
+    }
+
+    /** Creates a workflow with the given number of tasks and lists the commands of one update. */
+    private List<String> updateTaskCommands(
+            RedisExecutionDAO dao, JedisMock jedisMock, String workflowId, int taskCount) {
+        List<TaskModel> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            TaskModel task = new TaskModel();
+            task.setTaskId(workflowId + "_task" + i);
+            task.setWorkflowInstanceId(workflowId);
+            task.setReferenceTaskName("ref_name" + i);
+            task.setTaskDefName("task");
+            task.setTaskType("task");
+            task.setStatus(TaskModel.Status.IN_PROGRESS);
+            tasks.add(task);
+        }
+        dao.createTasks(tasks);
+
+        TaskModel task = tasks.get(taskCount - 1);
+        task.setStatus(TaskModel.Status.COMPLETED);
+        clearInvocations(jedisMock);
+        dao.updateTask(task);
+        return mockingDetails(jedisMock).getInvocations().stream()
+                .map(invocation -> invocation.getMethod().getName())
+                .collect(Collectors.toList());
+    }
+
     @Override
     protected ExecutionDAO getExecutionDAO() {
         return executionDAO;
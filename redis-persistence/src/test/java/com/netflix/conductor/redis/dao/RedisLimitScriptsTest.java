@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.dao;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.netflix.conductor.common.config.TestObjectMapperConfiguration;
+import com.netflix.conductor.common.metadata.tasks.TaskDef;
+import com.netflix.conductor.common.metadata.workflow.WorkflowTask;
+import com.netflix.conductor.core.config.ConductorProperties;
+import com.netflix.conductor.model.TaskModel;
+import com.netflix.conductor.redis.config.RedisProperties;
+import com.netflix.conductor.redis.jedis.JedisProxy;
+import com.netflix.conductor.redis.jedis.JedisStandalone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the concurrency and rate limit scripts against a real Redis, next to the separate commands
+ * they replace, and checks that both give the same answers and leave the same state behind.
+ */
+@ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
+@RunWith(SpringRunner.class)
+public class RedisLimitScriptsTest {
+
+    private static final String SCRIPT_PREFIX = "script";
+    private static final String COMMANDS_PREFIX = "commands";
+
+    @ClassRule
+    public static GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis").withTag("5.0.3-alpine"))
+                    .withExposedPorts(6379);
+
+    @Autowired private ObjectMapper objectMapper;
+
+    private JedisPool jedisPool;
+    private JedisProxy scriptProxy;
+    private JedisProxy commandsProxy;
+
+    @Before
+    public void init() {
+        jedisPool = new JedisPool(redis.getHost(), redis.getFirstMappedPort());
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushAll();
+        }
+        JedisStandalone jedisStandalone = new JedisStandalone(jedisPool);
+        scriptProxy = new JedisProxy(jedisStandalone);
+        commandsProxy =
+                new JedisProxy(jedisStandalone) {
+                    @Override
+                    public boolean canEval(List<String> keys) {
+                        return false;
+                    }
+                };
+    }
+
+    @After
+    public void close() {
+        jedisPool.close();
+    }
+
+    @Test
+    public void testConcurrencyLimitScript() {
+        assertTrue(scriptProxy.canEval(List.of("a", "b")));
+        List<Boolean> expected = List.of(false, false, true, false, true, false);
+
+        assertEquals(expected, exceedsLimit(executionDAO(scriptProxy, SCRIPT_PREFIX)));
+        assertEquals(expected, exceedsLimit(executionDAO(commandsProxy, COMMANDS_PREFIX)));
+        assertEquals(
+                scriptProxy.zrange(SCRIPT_PREFIX + ".TASK_LIMIT_BUCKET.limited_task", 0, -1),
+                scriptProxy.zrange(COMMANDS_PREFIX + ".TASK_LIMIT_BUCKET.limited_task", 0, -1));
+        assertEquals(
+                scriptProxy.smembers(SCRIPT_PREFIX + ".TASKS_IN_PROGRESS_STATUS.limited_task"),
+                scriptProxy.smembers(COMMANDS_PREFIX + ".TASKS_IN_PROGRESS_STATUS.limited_task"));
+    }
+
+    @Test
+    public void testRateLimitScript() {
+        String scriptKey = SCRIPT_PREFIX + ".TASK_RATE_LIMIT_BUCKET.rate_limited_task";
+        String commandsKey = COMMANDS_PREFIX + ".TASK_RATE_LIMIT_BUCKET.rate_limited_task";
+        // entries older than the frequency are removed before counting
+        long expired = System.currentTimeMillis() - 120_000;
+        scriptProxy.zadd(scriptKey, expired, "expired");
+        scriptProxy.zadd(commandsKey, expired, "expired");
+        List<Boolean> expected = List.of(false, false, false, true, true);
+
+        assertEquals(expected, exceedsRateLimit(rateLimitingDAO(scriptProxy, SCRIPT_PREFIX)));
+        assertEquals(expected, exceedsRateLimit(rateLimitingDAO(commandsProxy, COMMANDS_PREFIX)));
+        assertEquals(3, scriptProxy.zcard(scriptKey).longValue());
+        assertEquals(3, scriptProxy.zcard(commandsKey).longValue());
+        try (Jedis jedis = jedisPool.getResource()) {
+            long scriptTtl = jedis.ttl(scriptKey);
+            long commandsTtl = jedis.ttl(commandsKey);
+            assertTrue(scriptTtl > 0 && scriptTtl <= 60);
+            assertTrue(commandsTtl > 0 && commandsTtl <= 60);
+        }
+    }
+
+    /**
+     * Takes tasks of a definition limited to 2 in progress through the cases of the script: room in
+     * the bucket, a bucket full of tasks no longer in progress, too many in progress and a task
+     * that completes.
+     */
+    private List<Boolean> exceedsLimit(RedisExecutionDAO dao) {
+        TaskDef taskDef = new TaskDef("limited_task");
+        taskDef.setConcurrentExecLimit(2);
+        TaskModel task1 = task(taskDef, "task1");
+        TaskModel task2 = task(taskDef, "task2");
+        TaskModel task3 = task(taskDef, "task3");
+        TaskModel task4 = task(taskDef, "task4");
+
+        List<Boolean> results = new ArrayList<>();
+        results.add(dao.exceedsLimit(task1));
+        task1.setStatus(TaskModel.Status.IN_PROGRESS);
+        dao.updateTask(task1);
+        results.add(dao.exceedsLimit(task2));
+        // task2 never started, so it is removed from the bucket to make room for task3
+        results.add(dao.exceedsLimit(task3));
+        results.add(dao.exceedsLimit(task3));
+        task3.setStatus(TaskModel.Status.IN_PROGRESS);
+        dao.updateTask(task3);
+        results.add(dao.exceedsLimit(task4));
+        task1.setStatus(TaskModel.Status.COMPLETED);
+        dao.updateTask(task1);
+        results.add(dao.exceedsLimit(task4));
+        return results;
+    }
+
+    private List<Boolean> exceedsRateLimit(RedisRateLimitingDAO dao) {
+        TaskDef taskDef = new TaskDef("rate_limited_task");
+        taskDef.setRateLimitFrequencyInSeconds(60);
+        taskDef.setRateLimitPerFrequency(3);
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(dao.exceedsRateLimitPerFrequency(task(taskDef, "task" + i), taskDef));
+        }
+        return results;
+    }
+
+    private TaskModel task(TaskDef taskDef, String taskId) {
+        TaskModel task = new TaskModel();
+        task.setTaskId(taskId);
+        task.setTaskDefName(taskDef.getName());
+        task.setWorkflowInstanceId("workflowId");
+        task.setStatus(TaskModel.Status.SCHEDULED);
+        WorkflowTask workflowTask = new WorkflowTask();
+        workflowTask.setTaskDefinition(taskDef);
+        task.setWorkflowTask(workflowTask);
+        return task;
+    }
+
+    private RedisExecutionDAO executionDAO(JedisProxy jedisProxy, String prefix) {
+        return new RedisExecutionDAO(
+                jedisProxy, objectMapper, mock(ConductorProperties.class), properties(prefix));
+    }
+
+    private RedisRateLimitingDAO rateLimitingDAO(JedisProxy jedisProxy, String prefix) {
+        return new RedisRateLimitingDAO(
+                jedisProxy, objectMapper, mock(ConductorProperties.class), properties(prefix));
+    }
+
+    private RedisProperties properties(String prefix) {
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getWorkflowNamespacePrefix()).thenReturn(prefix);
+        when(properties.getEventExecutionPersistenceTTL()).thenReturn(Duration.ofSeconds(5));
+        when(properties.getPayloadCompressionThreshold()).thenReturn(DataSize.ofBytes(0));
+        return properties;
+    }
+}
@@ -47,7 +47,10 @@ import redis.clients.jedis.commands.JedisCommands;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
@@ -55,6 +58,9 @@ import static org.mockito.Mockito.when;
 public class RedisMetadataDAOTest {
 
     private RedisMetadataDAO redisMetadataDAO;
+    private RedisMetadataDAO otherNodeMetadataDAO;
+    private RedisMetadataChangeNotifier changeNotifier;
+    private JedisProxy jedisProxy;
 
     @Autowired private ObjectMapper objectMapper;
 
@@ -63,11 +69,26 @@ public class RedisMetadataDAOTest {
         ConductorProperties conductorProperties = mock(ConductorProperties.class);
         RedisProperties properties = mock(RedisProperties.class);
         when(properties.getTaskDefCacheRefreshInterval()).thenReturn(Duration.ofSeconds(60));
+        when(properties.getWorkflowDefCacheValidityPeriod()).thenReturn(Duration.ofSeconds(60));
+        // polled by the tests
+        when(properties.getMetadataChangePollInterval()).thenReturn(Duration.ofHours(1));
         JedisCommands jedisMock = new JedisMock();
-        JedisProxy jedisProxy = new JedisProxy(jedisMock);
+        jedisProxy = spy(new JedisProxy(jedisMock));
 
+        changeNotifier =
+                new RedisMetadataChangeNotifier(
+                        jedisProxy, objectMapper, conductorProperties, properties);
         redisMetadataDAO =
-                new RedisMetadataDAO(jedisProxy, objectMapper, conductorProperties, properties);
+                new RedisMetadataDAO(
+                        jedisProxy, objectMapper, conductorProperties, properties, changeNotifier);
+        otherNodeMetadataDAO =
+                new RedisMetadataDAO(
+                        jedisProxy,
+                        objectMapper,
+                        conductorProperties,
+                        properties,
+                        new RedisMetadataChangeNotifier(
+                                jedisProxy, objectMapper, conductorProperties, properties));
     }
 
     @Test(expected = ConflictException.class)
@@ -201,6 +222,93 @@ public class RedisMetadataDAOTest {
         assertEquals(3, allMap.get("test3").getVersion());
     }
 
+    @Test
+    public void testWorkflowDefCache() {
+        WorkflowDef def = new WorkflowDef();
+        def.setName("testWorkflowDefCache");
+        def.setVersion(1);
+        def.setDescription("v1");
+        redisMetadataDAO.createWorkflowDef(def);
+        assertEquals(1, redisMetadataDAO.getLatestWorkflowDef(def.getName()).get().getVersion());
+
+        // changes made through another node are not seen until they are polled
+        def.setDescription("v1 updated");
+        otherNodeMetadataDAO.updateWorkflowDef(def);
+        def.setVersion(2);
+        otherNodeMetadataDAO.createWorkflowDef(def);
+        WorkflowDef latest = redisMetadataDAO.getLatestWorkflowDef(def.getName()).get();
+        assertEquals(1, latest.getVersion());
+        assertEquals("v1", latest.getDescription());
+
+        changeNotifier.pollChanges();
+        assertEquals(2, redisMetadataDAO.getLatestWorkflowDef(def.getName()).get().getVersion());
+        latest = redisMetadataDAO.getWorkflowDef(def.getName(), 1).get();
+        assertEquals("v1 updated", latest.getDescription());
+
+        // every caller gets its own copy
+        latest.setDescription("modified");
+        assertEquals(
+                "v1 updated",
+                redisMetadataDAO.getWorkflowDef(def.getName(), 1).get().getDescription());
+
+        // changes made through this node are seen right away
+        def.setVersion(3);
+        def.setDescription("v3");
+        redisMetadataDAO.createWorkflowDef(def);
+        latest = redisMetadataDAO.getLatestWorkflowDef(def.getName()).get();
+        assertEquals(3, latest.getVersion());
+        assertEquals("v3", latest.getDescription());
+        assertEquals(
+                "v1 updated",
+                otherNodeMetadataDAO.getWorkflowDef(def.getName(), 1).get().getDescription());
+
+        redisMetadataDAO.removeWorkflowDef(def.getName(), 3);
+        assertEquals(2, redisMetadataDAO.getLatestWorkflowDef(def.getName()).get().getVersion());
+    }
+
+    @Test
+    public void testTaskDefChangedThroughOtherNode() {
+        TaskDef def = new TaskDef("testTaskDefChangedThroughOtherNode");
+        def.setDescription("v1");
+        otherNodeMetadataDAO.createTaskDef(def);
+        changeNotifier.pollChanges();
+        assertEquals("v1", redisMetadataDAO.getTaskDef(def.getName()).getDescription());
+
+        def.setDescription("v2");
+        otherNodeMetadataDAO.updateTaskDef(def);
+        assertEquals("v1", redisMetadataDAO.getTaskDef(def.getName()).getDescription());
+        changeNotifier.pollChanges();
+        assertEquals("v2", redisMetadataDAO.getTaskDef(def.getName()).getDescription());
+    }
+
+    @Test
+    public void testTaskDefChangedDuringFullRefresh() throws Exception {
+        TaskDef def = new TaskDef("testTaskDefChangedDuringFullRefresh");
+        def.setDescription("v1");
+        otherNodeMetadataDAO.createTaskDef(def);
+        changeNotifier.pollChanges();
+
+        // the change arrives while the full refresh holds its older read of all definitions
+        Thread changeListener = new Thread(changeNotifier::pollChanges);
+        doAnswer(
+                        invocation -> {
+                            Object taskDefs = invocation.callRealMethod();
+                            if (invocation.<String>getArgument(0).endsWith("TASK_DEFS")) {
+                                def.setDescription("v2");
+                                otherNodeMetadataDAO.updateTaskDef(def);
+                                changeListener.start();
+                                changeListener.join(200);
+                            }
+                            return taskDefs;
+                        })
+                .when(jedisProxy)
+                .hgetAll(anyString());
+        redisMetadataDAO.refreshTaskDefs();
+        changeListener.join();
+
+        assertEquals("v2", redisMetadataDAO.getTaskDef(def.getName()).getDescription());
+    }
+
     @Test(expected = NotFoundException.class)
     public void removeInvalidWorkflowDef() {
         redisMetadataDAO.removeWorkflowDef("hello", 1);
@@ -12,7 +12,10 @@
  */
 package com.netflix.conductor.redis.dao;
 
+import java.time.Duration;
+
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
@@ -29,25 +32,51 @@ import com.netflix.conductor.redis.jedis.JedisProxy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import redis.clients.jedis.commands.JedisCommands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
 @RunWith(SpringRunner.class)
 public class RedisPollDataDAOTest extends PollDataDAOTest {
 
-    private PollDataDAO redisPollDataDAO;
+    private RedisPollDataDAO redisPollDataDAO;
 
     @Autowired private ObjectMapper objectMapper;
 
+    private JedisProxy jedisProxy;
+
     @Before
     public void init() {
-        ConductorProperties conductorProperties = mock(ConductorProperties.class);
-        RedisProperties properties = mock(RedisProperties.class);
         JedisCommands jedisMock = new JedisMock();
-        JedisProxy jedisProxy = new JedisProxy(jedisMock);
+        jedisProxy = new JedisProxy(jedisMock);
+
+        redisPollDataDAO = createPollDataDAO();
+    }
 
-        redisPollDataDAO =
-                new RedisPollDataDAO(jedisProxy, objectMapper, conductorProperties, properties);
+    @Test
+    public void testUpdatesAreCoalescedUntilFlushed() {
+        RedisPollDataDAO otherServerPollDataDAO = createPollDataDAO();
+
+        redisPollDataDAO.updateLastPollData("taskDef", "domain1", "workerId1");
+        redisPollDataDAO.updateLastPollData("taskDef", "domain1", "workerId2");
+        assertEquals("workerId2", redisPollDataDAO.getPollData("taskDef", "domain1").getWorkerId());
+        assertNull(otherServerPollDataDAO.getPollData("taskDef", "domain1"));
+
+        redisPollDataDAO.flush();
+        assertEquals(1, jedisProxy.hgetAll("POLL_DATA.taskDef").size());
+        assertEquals(1, otherServerPollDataDAO.getPollData("taskDef").size());
+        assertEquals(
+                "workerId2", otherServerPollDataDAO.getPollData("taskDef").get(0).getWorkerId());
+    }
+
+    private RedisPollDataDAO createPollDataDAO() {
+        ConductorProperties conductorProperties = mock(ConductorProperties.class);
+        RedisProperties properties = mock(RedisProperties.class);
+        when(properties.getPollDataFlushInterval()).thenReturn(Duration.ofMinutes(1));
+        when(properties.getPollDataCacheValidityPeriod()).thenReturn(Duration.ofSeconds(1));
+        return new RedisPollDataDAO(jedisProxy, objectMapper, conductorProperties, properties);
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package com.netflix.conductor.redis.dao;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.Before;
@@ -34,7 +35,15 @@ import redis.clients.jedis.commands.JedisCommands;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {TestObjectMapperConfiguration.class})
 @RunWith(SpringRunner.class)
@@ -86,4 +95,31 @@ public class RedisRateLimitDAOTest {
         assertFalse(rateLimitingDao.exceedsRateLimitPerFrequency(task, taskDef));
         assertTrue(rateLimitingDao.exceedsRateLimitPerFrequency(task, taskDef));
     }
+
+    @Test
+    public void testExceedsRateLimitInScript() {
+        JedisProxy jedisProxy = mock(JedisProxy.class);
+        when(jedisProxy.canEval(anyList())).thenReturn(true);
+        when(jedisProxy.eval(any(), anyList(), anyList()))
+                .thenReturn(List.of(1L, 1L))
+                .thenReturn(List.of(0L, 1L));
+        RedisRateLimitingDAO dao =
+                new RedisRateLimitingDAO(
+                        jedisProxy,
+                        objectMapper,
+                        mock(ConductorProperties.class),
+                        mock(RedisProperties.class));
+
+        TaskDef taskDef = new TaskDef("TestTaskDefinition");
+        taskDef.setRateLimitFrequencyInSeconds(60);
+        taskDef.setRateLimitPerFrequency(1);
+        TaskModel task = new TaskModel();
+        task.setTaskId(UUID.randomUUID().toString());
+        task.setTaskDefName(taskDef.getName());
+        assertFalse(dao.exceedsRateLimitPerFrequency(task, taskDef));
+        assertTrue(dao.exceedsRateLimitPerFrequency(task, taskDef));
+
+        verify(jedisProxy, times(2)).eval(any(), anyList(), anyList());
+        verify(jedisProxy, never()).zcount(anyString(), anyDouble(), anyDouble());
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.redis.jedis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Sends batches of writes through the MULTI/EXEC of the standalone and sentinel clients. */
+public class JedisBatchCommandsTest {
+
+    @ClassRule
+    public static GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis").withTag("5.0.3-alpine"))
+                    .withExposedPorts(6379);
+
+    private JedisPool jedisPool;
+    private JedisStandalone jedisStandalone;
+    private JedisSentinel jedisSentinel;
+
+    @Before
+    public void init() {
+        jedisPool = new JedisPool(redis.getHost(), redis.getFirstMappedPort());
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushAll();
+        }
+        jedisStandalone = new JedisStandalone(jedisPool);
+        // a sentinel pool hands out connections to the master like a plain pool
+        jedisSentinel = new JedisSentinel(jedisPool);
+    }
+
+    @After
+    public void close() {
+        jedisPool.close();
+    }
+
+    @Test
+    public void testStandaloneWrite() {
+        assertWrite(jedisStandalone, jedisStandalone);
+    }
+
+    @Test
+    public void testSentinelWrite() {
+        assertWrite(jedisSentinel, jedisSentinel);
+    }
+
+    @Test
+    public void testStandaloneWriteErrorReply() {
+        assertWriteErrorReply(jedisStandalone, jedisStandalone);
+    }
+
+    @Test
+    public void testSentinelWriteErrorReply() {
+        assertWriteErrorReply(jedisSentinel, jedisSentinel);
+    }
+
+    @Test
+    public void testBatch() {
+        JedisProxy jedisProxy = new JedisProxy(jedisStandalone);
+        jedisProxy.startBatch();
+        jedisProxy.write(JedisMutation.set("key", "value"));
+        assertNull(jedisStandalone.get("key"));
+
+        // reads of the batching thread see its own writes
+        assertEquals("value", jedisProxy.get("key"));
+        jedisProxy.write(JedisMutation.sadd("set", "member"));
+        jedisProxy.endBatch();
+        assertTrue(jedisStandalone.sismember("set", "member"));
+
+        jedisProxy.startBatch();
+        jedisProxy.write(JedisMutation.del("key"));
+        jedisProxy.discardBatch();
+        assertEquals("value", jedisStandalone.get("key"));
+
+        // the writes after the batch are sent right away
+        jedisProxy.write(JedisMutation.del("key"));
+        assertNull(jedisStandalone.get("key"));
+    }
+
+    private void assertWrite(JedisBatchCommands batchCommands, JedisCommands commands) {
+        commands.set("deleted", "value");
+        commands.sadd("set", "removed");
+        commands.zadd("sortedSet", 1, "removed");
+        commands.zadd("sortedSet", 2, "kept");
+        commands.hset("hash", "removed", "value");
+
+        batchCommands.write(
+                List.of(
+                        JedisMutation.set("key", "first"),
+                        JedisMutation.set("key", "second"),
+                        JedisMutation.expire("key", 60),
+                        JedisMutation.del("deleted"),
+                        JedisMutation.sadd("set", "added"),
+                        JedisMutation.srem("set", "removed"),
+                        JedisMutation.zrem("sortedSet", "removed"),
+                        JedisMutation.hset("hash", "added", "value"),
+                        JedisMutation.hdel("hash", "removed")));
+
+        assertEquals("second", commands.get("key"));
+        long ttl = commands.ttl("key");
+        assertTrue(ttl > 0 && ttl <= 60);
+        assertFalse(commands.exists("deleted"));
+        assertEquals(Set.of("added"), commands.smembers("set"));
+        assertEquals(Set.of("kept"), commands.zrange("sortedSet", 0, -1));
+        assertEquals(Map.of("added", "value"), commands.hgetAll("hash"));
+    }
+
+    private void assertWriteErrorReply(JedisBatchCommands batchCommands, JedisCommands commands) {
+        try {
+            batchCommands.write(
+                    List.of(
+                            JedisMutation.set("key", "value"),
+                            JedisMutation.sadd("key", "member"),
+                            JedisMutation.set("other", "value")));
+            fail("the error reply of the SADD is thrown");
+        } catch (JedisDataException e) {
+            assertTrue(e.getMessage().startsWith("WRONGTYPE"));
+        }
+        // as with the commands sent one by one, the other writes are applied
+        assertEquals("value", commands.get("key"));
+        assertEquals("value", commands.get("other"));
+    }
+}
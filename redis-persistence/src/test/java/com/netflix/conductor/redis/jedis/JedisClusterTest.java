@@ -21,8 +21,13 @@ import java.util.Map.Entry;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Client;
 import redis.clients.jedis.GeoUnit;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
@@ -30,6 +35,7 @@ import redis.clients.jedis.params.GeoRadiusParam;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.util.SafeEncoder;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -52,6 +58,30 @@ public class JedisClusterTest {
         jedisCluster.get("key");
     }
 
+    @Test
+    public void testMget() {
+        Jedis jedis = mock(Jedis.class);
+        Client client = mock(Client.class);
+        Pipeline pipeline = mock(Pipeline.class);
+        when(mockCluster.getConnectionFromSlot(Mockito.anyInt())).thenReturn(jedis);
+        when(jedis.getClient()).thenReturn(client);
+        when(client.getHost()).thenReturn("localhost");
+        when(client.getPort()).thenReturn(6379);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        when(pipeline.get(Mockito.anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            Response<String> response = new Response<>(BuilderFactory.STRING);
+                            response.set(SafeEncoder.encode("v-" + invocation.getArgument(0)));
+                            return response;
+                        });
+
+        assertEquals(
+                Arrays.asList("v-key1", "v-key2", "v-key3"),
+                jedisCluster.mget("key1", "key2", "key3"));
+        Mockito.verify(pipeline).sync();
+    }
+
     @Test
     public void testExists() {
         jedisCluster.exists("key");
@@ -21,7 +21,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.netflix.conductor.common.metadata.workflow.StartWorkflowRequest;
 import com.netflix.conductor.common.model.BulkResponse;
+import com.netflix.conductor.rest.rbac.annotations.RbacAdminAccess;
 import com.netflix.conductor.rest.rbac.annotations.RbacBulkAccess;
 import com.netflix.conductor.service.WorkflowBulkService;
 
@@ -40,6 +42,22 @@ public class WorkflowBulkResource {
         this.workflowBulkService = workflowBulkService;
     }
 
+    /**
+     * Start the list of workflows. The workflows are evaluated asynchronously, after this call
+     * returns.
+     *
+     * @param startWorkflowRequests - list of requests of the workflows to start
+     * @return bulk response object containing a list of the ids of the started workflows and a list
+     *     of failed ones, keyed by their position in the request list, with errors
+     */
+    @RbacAdminAccess
+    @PostMapping("/start")
+    @Operation(summary = "Start the list of workflows")
+    public BulkResponse startWorkflows(
+            @RequestBody List<StartWorkflowRequest> startWorkflowRequests) {
+        return workflowBulkService.startWorkflows(startWorkflowRequests);
+    }
+
     /**
      * Pause the list of workflows.
      *
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Netflix, Inc.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.netflix.conductor.rest.controllers;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.netflix.conductor.common.metadata.workflow.StartWorkflowRequest;
+import com.netflix.conductor.common.model.BulkResponse;
+import com.netflix.conductor.rest.rbac.RbacAccessAspect;
+import com.netflix.conductor.rest.rbac.RbacDbHandler;
+import com.netflix.conductor.rest.rbac.RbacHttpFilter;
+import com.netflix.conductor.rest.rbac.UserType;
+import com.netflix.conductor.rest.rbac.annotations.RbacAdminAccess;
+import com.netflix.conductor.service.WorkflowBulkService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowBulkResourceTest {
+
+    private WorkflowBulkService mockWorkflowBulkService;
+
+    private WorkflowBulkResource workflowBulkResource;
+
+    private RbacHttpFilter filter;
+
+    private RbacAccessAspect rbacAccessAspect;
+
+    @Before
+    public void before() {
+        this.mockWorkflowBulkService = mock(WorkflowBulkService.class);
+        this.workflowBulkResource = new WorkflowBulkResource(mockWorkflowBulkService);
+        this.filter = mock(RbacHttpFilter.class);
+        this.rbacAccessAspect = new RbacAccessAspect(mock(RbacDbHandler.class), filter);
+    }
+
+    @Test
+    public void testStartWorkflows() {
+        List<StartWorkflowRequest> requests = Collections.singletonList(new StartWorkflowRequest());
+        BulkResponse bulkResponse = new BulkResponse();
+        when(mockWorkflowBulkService.startWorkflows(requests)).thenReturn(bulkResponse);
+        assertSame(bulkResponse, workflowBulkResource.startWorkflows(requests));
+    }
+
+    @Test
+    public void testStartWorkflowsRequiresAdmin() throws Throwable {
+        assertNotNull(
+                WorkflowBulkResource.class
+                        .getMethod("startWorkflows", List.class)
+                        .getAnnotation(RbacAdminAccess.class));
+
+        when(filter.getUser()).thenReturn(new UserType(List.of("reader"), false));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed())
+                .thenAnswer(
+                        invocation ->
+                                workflowBulkResource.startWorkflows(
+                                        Collections.singletonList(new StartWorkflowRequest())));
+        try {
+            rbacAccessAspect.triggerAdminMethods(joinPoint);
+            fail("a non-admin user must not start workflows in bulk");
+        } catch (HttpClientErrorException e) {
+            assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+        }
+        verify(joinPoint, never()).proceed();
+        verify(mockWorkflowBulkService, never()).startWorkflows(anyList());
+    }
+}
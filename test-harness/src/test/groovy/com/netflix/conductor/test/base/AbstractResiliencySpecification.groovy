@@ -19,9 +19,12 @@ import org.springframework.context.annotation.Configuration
 import org.springframework.context.annotation.Primary
 import org.springframework.test.context.TestPropertySource
 
+import com.netflix.conductor.core.config.ConductorProperties
 import com.netflix.conductor.dao.QueueDAO
+import com.netflix.conductor.redis.config.RedisProperties
 import com.netflix.conductor.redis.dao.DynoQueueDAO
 import com.netflix.conductor.redis.jedis.JedisMock
+import com.netflix.conductor.redis.jedis.JedisProxy
 import com.netflix.dyno.connectionpool.Host
 import com.netflix.dyno.queues.ShardSupplier
 import com.netflix.dyno.queues.redis.RedisQueues
@@ -62,8 +65,9 @@ abstract class AbstractResiliencySpecification extends AbstractSpecification {
                     return "a"
                 }
             }
-            RedisQueues redisQueues = new RedisQueues(jedisMock, jedisMock, "mockedQueues", shardSupplier, 60000, 120000)
-            DynoQueueDAO dynoQueueDAO = new DynoQueueDAO(redisQueues)
+            RedisProperties redisProperties = new RedisProperties(new ConductorProperties())
+            RedisQueues redisQueues = new RedisQueues(jedisMock, jedisMock, redisProperties.getQueuePrefix(), shardSupplier, 60000, 120000)
+            DynoQueueDAO dynoQueueDAO = new DynoQueueDAO(redisQueues, new JedisProxy(jedisMock), shardSupplier, redisProperties)
 
             return detachedMockFactory.Spy(dynoQueueDAO)
         }